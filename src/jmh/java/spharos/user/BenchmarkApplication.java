@@ -0,0 +1,53 @@
+package spharos.user;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.StringUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+    벤치마크용 애플리케이션 실행
+    - 실제 UserApplication 을 띄워 Flyway 스키마, JPA 매핑, 서비스, 캐시를 그대로 사용
+    - DB(MySQL), Redis 접속 정보는 벤치마크 JVM 시스템 속성으로 지정하며, 지정하지 않으면 실행하지 않음
+    실행 : ./gradlew jmh -Pjmh.includes=<벤치마크> -Pjmh.jvmArgs="-Dspring.datasource.url=jdbc:mysql://.../user_bench
+          -Dspring.datasource.username=... -Dspring.datasource.password=... -Dspring.data.redis.host=... -Dspring.data.redis.port=6379"
+    - 벤치마크가 유저를 만들고 지우므로 전용 DB, Redis 에서 실행
+ */
+public final class BenchmarkApplication {
+
+    private static final String SECRET_KEY = "c3BoYXJvcy13b295YW5vLXVzZXItc2VydmljZS1iZW5jaG1hcmstc2VjcmV0LWtleS0xMjM0NTY3ODkw";
+
+    private BenchmarkApplication() {
+    }
+
+    // profiles 로 애플리케이션 실행 (web 이면 임의 포트로 Tomcat 실행, properties 는 application.yml 보다 우선)
+    public static ConfigurableApplicationContext start(boolean web, Map<String, Object> properties, String... profiles) {
+        for (String required : new String[] { "spring.datasource.url", "spring.data.redis.host" }) {
+            if (!StringUtils.hasText(System.getProperty(required))) {
+                throw new IllegalStateException("benchmark requires -D" + required + " (see BenchmarkApplication)");
+            }
+        }
+
+        Map<String, Object> defaults = new HashMap<>();
+        defaults.put("spring.data.redis.port", 6379);
+        defaults.put("JWT.secret-key", SECRET_KEY);
+        defaults.put("JWT.expiration-time", 3_600_000L);
+        defaults.put("JWT.refresh-expiration-time", 86_400_000L);
+
+        Map<String, Object> overrides = new HashMap<>(properties);
+        overrides.put("server.port", 0);
+        overrides.put("eureka.client.enabled", false);
+
+        return new SpringApplicationBuilder(UserApplication.class)
+                .web(web ? WebApplicationType.SERVLET : WebApplicationType.NONE)
+                .profiles(profiles)
+                .properties(defaults)
+                .run(overrides.entrySet().stream()
+                        .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                        .toArray(String[]::new));
+    }
+
+}
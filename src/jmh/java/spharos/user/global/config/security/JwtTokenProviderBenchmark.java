@@ -0,0 +1,98 @@
+package spharos.user.global.config.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import spharos.user.users.domain.User;
+
+import java.security.Key;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/*
+    JWT 발급/검증 처리량 비교
+    - legacy* : 호출마다 서명 키를 디코딩하고 파서를 새로 만들며, 검증시 토큰을 두 번 파싱하던 기존 방식
+    - generate, validate : 키와 파서를 한 번만 만들어 재사용하는 JwtTokenProvider
+    실행 : ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET_KEY = "c3BoYXJvcy13b295YW5vLXVzZXItc2VydmljZS1iZW5jaG1hcmstc2VjcmV0LWtleS0xMjM0NTY3ODkw";
+    private static final long EXPIRATION_TIME = 3_600_000L;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET_KEY, "v1", "", "",
+                Instant.EPOCH, Duration.ZERO, EXPIRATION_TIME, EXPIRATION_TIME);
+        user = User.createUser("benchmark@wooyano.com", "password", "19990101", "benchmark", "bench",
+                "01012345678", 0);
+        token = jwtTokenProvider.generateToken(user);
+    }
+
+    @Benchmark
+    public String generate() {
+        return jwtTokenProvider.generateToken(user);
+    }
+
+    @Benchmark
+    public TokenClaims validate() {
+        return jwtTokenProvider.parse(token);
+    }
+
+    @Benchmark
+    public String legacyGenerate() {
+        return Jwts.builder()
+                .setClaims(Map.of())
+                .claim("role", "USER")
+                .setSubject(user.getUsername())
+                .setIssuedAt(new Date(System.currentTimeMillis()))
+                .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION_TIME))
+                .signWith(legacySigningKey(), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    @Benchmark
+    public boolean legacyValidate() {
+        String subject = legacyExtractAllClaims(token).getSubject();
+        Date expiration = legacyExtractAllClaims(token).getExpiration();
+        return subject.equals(user.getUsername()) && !expiration.before(new Date());
+    }
+
+    private Claims legacyExtractAllClaims(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(legacySigningKey())
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    private Key legacySigningKey() {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY));
+    }
+
+}
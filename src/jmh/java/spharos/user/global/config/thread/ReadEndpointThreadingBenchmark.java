@@ -0,0 +1,162 @@
+package spharos.user.global.config.thread;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import spharos.user.BenchmarkApplication;
+import spharos.user.global.config.security.JwtTokenProvider;
+import spharos.user.users.application.UserImportService;
+import spharos.user.users.infrastructure.UserImportReader;
+import spharos.user.users.infrastructure.UserRepository;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/*
+    조회 API 요청 처리 스레드 비교 (플랫폼 스레드 vs 가상 스레드)
+    - 실제 애플리케이션을 띄우고 동시 요청 requests 개를 HTTP 로 한 번에 보내 모두 응답받을 때까지의 시간 측정
+      - addressList : GET /api/v1/users/address (ETag 스탬프, 주소 캐시, 유저 주소 + 주소 조회)
+      - mypageInfo  : GET /api/v1/users/mypage/info (ETag 스탬프, 엔티티 캐시, 이메일로 유저 조회)
+    - platform : 기본 프로파일 (Tomcat 스레드풀)
+    - virtual  : virtual 프로파일 (요청마다 가상 스레드, 풀마다 커넥션 permit, JDK 21 이상에서 실행)
+    - 스레드 차이만 비교하도록 동시 처리 한도(concurrency-limit)는 끄고, 200 이 아닌 응답이 있으면 실패
+    - 유저 USER_COUNT 명은 대량 가져오기(UserImportService)로 만들고 이미 있으면 그대로 사용
+    실행 방법은 BenchmarkApplication 참고 (virtual 은 JDK 21 로 실행해야 측정됨)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ReadEndpointThreadingBenchmark {
+
+    private static final int USER_COUNT = 1_000;
+    private static final String PASSWORD_HASH = "$2a$10$abcdefghijklmnopqrstuuK3e1rQ0m1oU3m2bO0Qk2c7b8N6o5aGm";
+
+    @Param({"platform", "virtual"})
+    public String threading;
+    @Param("2000")
+    public int requests;
+
+    private ConfigurableApplicationContext context;
+    private ExecutorService clientExecutor;
+    private HttpClient client;
+    private String baseUrl;
+    private List<String> tokens;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        if ("virtual".equals(threading) && !VirtualThreads.isSupported()) {
+            throw new IllegalStateException("virtual threads require JDK 21. running on " + Runtime.version());
+        }
+
+        context = BenchmarkApplication.start(true, Map.of("concurrency-limit.enabled", false),
+                "virtual".equals(threading) ? new String[] { "virtual" } : new String[0]);
+        baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+
+        createUsers();
+        JwtTokenProvider jwtTokenProvider = context.getBean(JwtTokenProvider.class);
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        tokens = new ArrayList<>(USER_COUNT);
+        for (int i = 0; i < USER_COUNT; i++) {
+            tokens.add(jwtTokenProvider.generateToken(userRepository.findByEmail(email(i)).orElseThrow()));
+        }
+
+        // 클라이언트 스레드가 측정 대상인 서버 스레드 수를 제한하지 않도록 클라이언트는 고정 크기 스레드풀 사용
+        clientExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        client = HttpClient.newBuilder()
+                .executor(clientExecutor)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        clientExecutor.shutdownNow();
+        context.close();
+    }
+
+    @Benchmark
+    public int addressList() {
+        return run("/api/v1/users/address");
+    }
+
+    @Benchmark
+    public int mypageInfo() {
+        return run("/api/v1/users/mypage/info");
+    }
+
+    // 동시 요청을 모두 보내고 응답 바이트 수 합계 반환
+    private int run(String path) {
+        List<CompletableFuture<HttpResponse<String>>> futures = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Authorization", "Bearer " + tokens.get(i % USER_COUNT))
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build();
+            futures.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString()));
+        }
+
+        int bytes = 0;
+        for (CompletableFuture<HttpResponse<String>> future : futures) {
+            HttpResponse<String> response = future.join();
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException(path + " returned " + response.statusCode() + " : " + response.body());
+            }
+            bytes += response.body().length();
+        }
+        return bytes;
+    }
+
+    private void createUsers() throws IOException {
+        Path file = Files.createTempFile("read-endpoint-benchmark", ".ndjson");
+        try {
+            List<String> lines = new ArrayList<>(USER_COUNT);
+            for (int i = 0; i < USER_COUNT; i++) {
+                lines.add(String.format("{\"email\":\"%s\",\"passwordHash\":\"%s\",\"username\":\"유저\","
+                                + "\"nickname\":\"rb%d\",\"birthday\":\"19990101\",\"phone\":\"01012345678\","
+                                + "\"localAddress\":\"부산광역시 해운대구 %d\",\"extraAddress\":\"1호\",\"localCode\":%d}",
+                        email(i), PASSWORD_HASH, i, i, i % 1000));
+            }
+            Files.write(file, lines, StandardCharsets.UTF_8);
+            context.getBean(UserImportService.class).importUsers(file, UserImportReader.Format.NDJSON);
+        } finally {
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(file.resolveSibling(file.getFileName() + ".checkpoint"));
+            Files.deleteIfExists(file.resolveSibling(file.getFileName() + ".rejects"));
+        }
+    }
+
+    private static String email(int i) {
+        return "read-bench" + i + "@wooyano.com";
+    }
+
+}
@@ -0,0 +1,110 @@
+package spharos.user.users.infrastructure;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import spharos.user.BenchmarkApplication;
+import spharos.user.address.domain.Address;
+import spharos.user.address.domain.UserAddressList;
+import spharos.user.users.domain.DefaultAddress;
+import spharos.user.users.domain.User;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/*
+    회원가입 10만건 INSERT 비교 (유저, 주소, 유저 주소 중간 테이블 3행씩, 100건마다 커밋)
+    - 실제 애플리케이션의 JPA 매핑(id_sequence 테이블 생성기, pooled-lo)과 Hibernate 설정으로 persist 후 커밋
+    - batched   : application.yml 설정 그대로 (hibernate.jdbc.batch_size, order_inserts 로 테이블별 배치 INSERT)
+    - unbatched : 세션의 JDBC 배치 크기를 1 로 두고 행마다 INSERT (IDENTITY 전략일 때의 문장 수, 생성 키 조회 왕복은 제외)
+    실행 방법은 BenchmarkApplication 참고
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class SignupInsertBenchmark {
+
+    private static final int SIGNUP_COUNT = 100_000;
+    private static final int COMMIT_SIZE = 100;
+    private static final String PREFIX = "signup-bench";
+    private static final String PASSWORD_HASH = "$2a$10$abcdefghijklmnopqrstuuK3e1rQ0m1oU3m2bO0Qk2c7b8N6o5aGm";
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private JdbcTemplate jdbcTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start(false, Map.of());
+        entityManager = context.getBean(EntityManager.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        jdbcTemplate = new JdbcTemplate(context.getBean(DataSource.class));
+        deleteSignups();
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteSignups() {
+        jdbcTemplate.update("delete from user_address_list where user_id in "
+                + "(select id from user where email like '" + PREFIX + "%')");
+        jdbcTemplate.update("delete from user where email like '" + PREFIX + "%'");
+        jdbcTemplate.update("delete from address where local_address like '" + PREFIX + "%'");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void batched() {
+        insert(null);
+    }
+
+    @Benchmark
+    public void unbatched() {
+        insert(1);
+    }
+
+    // 가입 절차와 같은 순서로 주소 -> 유저(대표주소 스냅샷) -> 유저 주소를 persist 하고 COMMIT_SIZE 건마다 커밋
+    private void insert(Integer jdbcBatchSize) {
+        for (int from = 0; from < SIGNUP_COUNT; from += COMMIT_SIZE) {
+            int start = from;
+            transactionTemplate.executeWithoutResult(status -> {
+                entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+                for (int i = start; i < Math.min(start + COMMIT_SIZE, SIGNUP_COUNT); i++) {
+                    Address address = Address.createAddress(PREFIX + " 부산광역시 해운대구 " + i, i + "호", i % 1000);
+                    entityManager.persist(address);
+
+                    User user = User.createUser(PREFIX + i + "@wooyano.com", PASSWORD_HASH, "19990101", "유저",
+                            "sb" + i, "01012345678", 0);
+                    user.changeDefaultAddress(new DefaultAddress(address.getId(), address.getLocalAddress(),
+                            address.getExtraAddress(), address.getLocalCode()));
+                    entityManager.persist(user);
+
+                    entityManager.persist(UserAddressList.createUserAddressList(user, address, Boolean.TRUE));
+                }
+            });
+        }
+    }
+
+}
@@ -2,12 +2,16 @@ package spharos.user;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@SpringBootApplication
+// 로그인은 UserServiceImpl 에서 직접 검증하므로 Spring Security 기본 계정(생성된 비밀번호)은 만들지 않음
+@SpringBootApplication(exclude = UserDetailsServiceAutoConfiguration.class)
 @EnableDiscoveryClient
 @EnableJpaAuditing
+@EnableScheduling
 public class UserApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,145 @@
+package spharos.user.address.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+import spharos.user.address.vo.AddressListForSearchResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+/*
+    유저 주소리스트 캐시 (cache-aside)
+    - 로컬(Caffeine) -> Redis -> DB 순서로 조회하며, 주소리스트 조회와 업체검색용 조회가 같은 값을 공유
+      (대표주소 조회는 이 캐시를 거치지 않고 user 행의 대표주소 스냅샷 컬럼에서 읽음)
+    - 로컬 캐시는 짧은 TTL 로 자주 조회되는 유저를 흡수하고, Redis 는 인스턴스간 공유 및 DB 부하 감소용
+    - Redis 장애시에는 DB 조회로 대체
+    - 제거된 유저는 put-block-window 동안 캐시를 거치지 않고 DB 에서 조회 (지연된 복제본에서 읽은 변경 전 주소리스트가 캐시되는 것을 막음)
+    - Redis 저장은 버전 키로 조건부 저장 : 제거할 때마다 버전을 올리고, 조회 전에 읽은 버전이 그대로일 때만 저장
+      (제거 전에 DB 에서 읽은 주소리스트를 제거 후에 늦게 저장해 변경 전 값이 되살아나는 것을 막음)
+ */
+@Slf4j
+@Component
+public class AddressCache {
+
+    private static final String KEY_PREFIX = "user-service:address:";
+    private static final String VERSION_KEY_PREFIX = "user-service:address-version:";
+
+    // KEYS[1] 주소리스트, KEYS[2] 버전, ARGV[1] 조회 전에 읽은 버전 (없으면 ''), ARGV[2] 주소리스트, ARGV[3] TTL(ms)
+    private static final byte[] PUT_SCRIPT = """
+            local version = redis.call('GET', KEYS[2]) or ''
+            if version ~= ARGV[1] then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            return 1
+            """.getBytes(StandardCharsets.UTF_8);
+
+    // KEYS[1] 주소리스트, KEYS[2] 버전, ARGV[1] 버전 TTL(ms)
+    private static final byte[] EVICT_SCRIPT = """
+            redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            return redis.call('DEL', KEYS[1])
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private final Cache<Long, List<AddressListForSearchResponse>> localCache;
+    private final Cache<Long, Boolean> recentlyEvicted;
+    private final RedisTemplate<String, List<AddressListForSearchResponse>> addressRedisTemplate;
+    private final RedisSerializer<List<AddressListForSearchResponse>> valueSerializer;
+    private final Duration ttl;
+
+    @SuppressWarnings("unchecked")
+    public AddressCache(@Value("${address-cache.local.maximum-size}") long localMaximumSize,
+                        @Value("${address-cache.local.ttl}") Duration localTtl,
+                        @Value("${address-cache.ttl}") Duration ttl,
+                        @Value("${address-cache.put-block-window}") Duration putBlockWindow,
+                        @Qualifier("addressRedisTemplate")
+                        RedisTemplate<String, List<AddressListForSearchResponse>> addressRedisTemplate,
+                        MeterRegistry meterRegistry) {
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .build();
+        this.recentlyEvicted = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(putBlockWindow)
+                .build();
+        this.addressRedisTemplate = addressRedisTemplate;
+        this.valueSerializer = (RedisSerializer<List<AddressListForSearchResponse>>) addressRedisTemplate.getValueSerializer();
+        this.ttl = ttl;
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "address");
+    }
+
+    // 유저 주소리스트 조회 (캐시에 없으면 loader 로 조회 후 저장)
+    public List<AddressListForSearchResponse> get(Long userId,
+                                                  Function<Long, List<AddressListForSearchResponse>> loader) {
+        if (recentlyEvicted.getIfPresent(userId) != null) {
+            return List.copyOf(loader.apply(userId));
+        }
+        return localCache.get(userId, key -> getFromRedis(key, loader));
+    }
+
+    // 로컬, Redis 캐시 모두 제거 (버전을 올려 제거 전에 시작한 조회의 저장을 막음)
+    public void evict(Long userId) {
+        evictLocal(userId);
+        // 버전 키는 캐시 TTL 보다 길게 유지해 진행 중인 조회가 읽은 버전과 비교할 수 있게 함
+        byte[] versionTtl = Long.toString(ttl.toMillis() * 2).getBytes(StandardCharsets.UTF_8);
+        addressRedisTemplate.execute((RedisCallback<Object>) connection -> connection.scriptingCommands()
+                .eval(EVICT_SCRIPT, ReturnType.INTEGER, 2, bytes(KEY_PREFIX + userId),
+                        bytes(VERSION_KEY_PREFIX + userId), versionTtl));
+    }
+
+    // 로컬 캐시만 제거 (다른 인스턴스의 무효화 메시지 수신시)
+    public void evictLocal(Long userId) {
+        recentlyEvicted.put(userId, Boolean.TRUE);
+        localCache.invalidate(userId);
+    }
+
+    private List<AddressListForSearchResponse> getFromRedis(Long userId,
+                                                            Function<Long, List<AddressListForSearchResponse>> loader) {
+        String key = KEY_PREFIX + userId;
+        byte[] versionKey = bytes(VERSION_KEY_PREFIX + userId);
+        byte[] version;
+        try {
+            List<AddressListForSearchResponse> cached = addressRedisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                return cached;
+            }
+            // DB 조회 전에 버전을 읽어 두고 저장할 때 비교
+            version = addressRedisTemplate.execute((RedisCallback<byte[]>) connection ->
+                    connection.stringCommands().get(versionKey));
+        } catch (RuntimeException e) {
+            log.warn("address cache read failed. userId={}", userId, e);
+            return List.copyOf(loader.apply(userId));
+        }
+
+        List<AddressListForSearchResponse> addressList = List.copyOf(loader.apply(userId));
+        byte[] value = valueSerializer.serialize(addressList);
+        byte[] expectedVersion = version == null ? new byte[0] : version;
+        byte[] ttlMillis = Long.toString(ttl.toMillis()).getBytes(StandardCharsets.UTF_8);
+        try {
+            addressRedisTemplate.execute((RedisCallback<Object>) connection -> connection.scriptingCommands()
+                    .eval(PUT_SCRIPT, ReturnType.INTEGER, 2, bytes(key), versionKey, expectedVersion, value, ttlMillis));
+        } catch (RuntimeException e) {
+            log.warn("address cache write failed. userId={}", userId, e);
+        }
+        return addressList;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+}
@@ -3,7 +3,6 @@ package spharos.user.address.application;
 import spharos.user.address.dto.AddressRegisterResultDto;
 import spharos.user.address.vo.AddressDetailResponse;
 import spharos.user.address.vo.AddressListForSearchResponse;
-import spharos.user.users.domain.User;
 import spharos.user.address.dto.AddressModifyDto;
 import spharos.user.address.dto.AddressRegisterDto;
 import spharos.user.address.vo.AddressDefaultResponse;
@@ -14,12 +13,12 @@ import java.util.List;
 public interface AddressService {
 
     // 주소리스트 조회
-    List<AddressResponse> getAddressList(User user);
+    List<AddressResponse> getAddressList(Long userId);
     // 주소리스트 조회 - 업체검색용
-    List<AddressListForSearchResponse> getAddressListForSearch(User user);
+    List<AddressListForSearchResponse> getAddressListForSearch(Long userId);
 
     // 상세 주소 조회(수정페이지표시용)
-    AddressDetailResponse getAddressDetail(Long addressId);
+    AddressDetailResponse getAddressDetail(Long userId, Long addressId);
 
     // 주소등록
     AddressRegisterResultDto registerAddress(AddressRegisterDto addressRegisterDto);
@@ -28,12 +27,12 @@ public interface AddressService {
     void modifyAddress(AddressModifyDto addressModifyDto);
 
     // 주소삭제
-    void deleteAddress(Long addressId);
+    void deleteAddress(Long userId, Long addressId);
 
     // 대표주소 조회
-    AddressDefaultResponse getDefaultAddress(User user);
+    AddressDefaultResponse getDefaultAddress(Long userId);
 
     // 대표주소 변경
-    void modifyDefaultAddress(User user, Long addressId);
+    void modifyDefaultAddress(Long userId, Long addressId);
 
 }
@@ -2,16 +2,21 @@ package spharos.user.address.application;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import spharos.user.address.domain.Address;
+import spharos.user.address.domain.AddressChangedEvent;
 import spharos.user.address.domain.UserAddressList;
 import spharos.user.address.dto.AddressRegisterResultDto;
 import spharos.user.address.infrastructure.UserAddressListRepository;
 import spharos.user.address.vo.AddressDetailResponse;
 import spharos.user.address.vo.AddressListForSearchResponse;
 import spharos.user.global.common.response.ResponseCode;
+import spharos.user.users.application.UserVersionStamp;
+import spharos.user.users.domain.DefaultAddress;
 import spharos.user.users.domain.User;
+import spharos.user.users.infrastructure.UserRepository;
 import spharos.user.address.dto.AddressModifyDto;
 import spharos.user.address.dto.AddressRegisterDto;
 import spharos.user.global.exception.CustomException;
@@ -19,7 +24,6 @@ import spharos.user.address.infrastructure.AddressRepository;
 import spharos.user.address.vo.AddressDefaultResponse;
 import spharos.user.address.vo.AddressResponse;
 
-import java.util.ArrayList;
 import java.util.List;
 
 
@@ -30,68 +34,42 @@ public class AddressServiceImpl implements AddressService {
 
     private final AddressRepository addressRepository;
     private final UserAddressListRepository userAddressListRepository;
+    private final UserRepository userRepository;
+    private final AddressCache addressCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserVersionStamp userVersionStamp;
 
     // 주소리스트 조회
     @Override
-    public List<AddressResponse> getAddressList(User user) {
-
-        // 유저 주소 중간 테이블 조회
-        List<UserAddressList> userAddressList = userAddressListRepository.findByUser(user);
-
-        // 주소 정보가 없는 경우 null은 반환
-        if (userAddressList.isEmpty()) {
-            return null;
-        }
-
-        List<AddressResponse> responseList = new ArrayList<>();
-
-        for(UserAddressList userAddress : userAddressList) {
-            AddressResponse addressResponse = AddressResponse.builder()
-                    .id(userAddress.getAddress().getId())
-                    .localAddress(userAddress.getAddress().getLocalAddress())
-                    .extraAddress(userAddress.getAddress().getExtraAddress())
-                    .defaultAddress(userAddress.getDefaultAddress())
-                    .build();
-            responseList.add(addressResponse);
-        }
-
-        return responseList;
+    @Transactional(readOnly = true)
+    public List<AddressResponse> getAddressList(Long userId) {
+
+        // 캐시된 주소리스트에서 변환 (주소 정보가 없는 경우 빈 리스트)
+        return getCachedAddressList(userId).stream()
+                .map(address -> AddressResponse.builder()
+                        .id(address.getId())
+                        .localAddress(address.getLocalAddress())
+                        .extraAddress(address.getExtraAddress())
+                        .defaultAddress(address.getDefaultAddress())
+                        .build())
+                .toList();
     }
 
     // 주소리스트 조회 - 업체검색용
     @Override
-    public List<AddressListForSearchResponse> getAddressListForSearch(User user) {
-
-        // 유저 주소 중간 테이블 조회
-        List<UserAddressList> userAddressList = userAddressListRepository.findByUser(user);
+    @Transactional(readOnly = true)
+    public List<AddressListForSearchResponse> getAddressListForSearch(Long userId) {
 
-        // 주소 정보가 없는 경우 null은 반환
-        if (userAddressList.isEmpty()) {
-            return null;
-        }
-
-        List<AddressListForSearchResponse> responseList = new ArrayList<>();
-
-        for(UserAddressList userAddress : userAddressList) {
-            AddressListForSearchResponse addressResponse = AddressListForSearchResponse.builder()
-                    .id(userAddress.getAddress().getId())
-                    .localAddress(userAddress.getAddress().getLocalAddress())
-                    .extraAddress(userAddress.getAddress().getExtraAddress())
-                    .defaultAddress(userAddress.getDefaultAddress())
-                    .localCode(userAddress.getAddress().getLocalCode())
-                    .build();
-            responseList.add(addressResponse);
-        }
-
-        return responseList;
+        // 유저 주소 중간 테이블과 주소를 한 번에 조회한 결과를 캐시 (주소 정보가 없는 경우 빈 리스트)
+        return getCachedAddressList(userId);
     }
 
     // 상세 주소 조회(수정페이지표시용)
     @Override
-    public AddressDetailResponse getAddressDetail(Long addressId) {
+    @Transactional(readOnly = true)
+    public AddressDetailResponse getAddressDetail(Long userId, Long addressId) {
 
-        Address address = addressRepository.findById(addressId)
-                .orElseThrow(() -> new CustomException(ResponseCode.CANNOT_FIND_ADDRESS));
+        Address address = findOwnedAddress(userId, addressId).getAddress();
 
         return AddressDetailResponse.builder()
                 .id(address.getId())
@@ -110,27 +88,25 @@ public class AddressServiceImpl implements AddressService {
                 addressRegisterDto.getExtraAddress(), addressRegisterDto.getLocalCode());
         addressRepository.save(address);
 
-        // 대표주소인 경우
+        // 유저 주소 중간 테이블 등록 (일반주소로 등록 후 대표주소인 경우 한 번의 UPDATE 로 변경)
+        // 유저는 id 로 프록시만 가져옴 (유저 조회 쿼리 없음)
+        User user = userRepository.getReferenceById(addressRegisterDto.getUserId());
+        userAddressListRepository.save(UserAddressList.createUserAddressList(user, address, Boolean.FALSE));
+
         if(addressRegisterDto.getDefaultAddress()) {
-            // 기존 대표주소 조회
-            UserAddressList userAddressList = userAddressListRepository.findByUserAndDefaultAddress(
-                    addressRegisterDto.getUser(), Boolean.TRUE);
-
-            if(userAddressList != null) {
-                // false로 갱신
-                userAddressList.setDefaultAddress(Boolean.FALSE);
-            }
+            userAddressListRepository.switchDefaultAddress(addressRegisterDto.getUserId(), address.getId());
+            // 유저의 대표주소 스냅샷 갱신
+            userRepository.syncDefaultAddress(addressRegisterDto.getUserId());
         }
 
-        // 유저 주소 중간 테이블 등록
-        UserAddressList newUserAddressList = UserAddressList.createUserAddressList(addressRegisterDto.getUser(),
-                address, addressRegisterDto.getDefaultAddress());
-        userAddressListRepository.save(newUserAddressList);
+        // 커밋 후 주소리스트 캐시 무효화, 버전 스탬프 변경
+        eventPublisher.publishEvent(new AddressChangedEvent(addressRegisterDto.getUserId()));
+        userVersionStamp.bump(addressRegisterDto.getUserId());
 
         return  AddressRegisterResultDto.builder()
                 .localAddress(address.getLocalAddress())
                 .extraAddress(address.getExtraAddress())
-                .defaultAddress(newUserAddressList.getDefaultAddress())
+                .defaultAddress(addressRegisterDto.getDefaultAddress())
                 .localCode(address.getLocalCode())
                 .build();
     }
@@ -140,26 +116,29 @@ public class AddressServiceImpl implements AddressService {
     @Transactional
     public void modifyAddress(AddressModifyDto addressModifyDto) {
 
-        // 수정할 주소를 찾음
-        Address modifyAddress = addressRepository.findById(addressModifyDto.getAddressId())
-                .orElseThrow(() -> new CustomException(ResponseCode.CANNOT_FIND_ADDRESS));
+        // 수정할 주소를 찾음 (유저의 주소가 아니면 에러)
+        Address modifyAddress = findOwnedAddress(addressModifyDto.getUserId(), addressModifyDto.getAddressId())
+                .getAddress();
 
         modifyAddress.update(addressModifyDto.getLocalAddress(),
                 addressModifyDto.getExtraAddress(),
                 addressModifyDto.getLocalCode());
+
+        // 대표주소를 수정한 경우를 위해 유저의 대표주소 스냅샷 갱신
+        userRepository.syncDefaultAddress(addressModifyDto.getUserId());
+
+        eventPublisher.publishEvent(new AddressChangedEvent(addressModifyDto.getUserId()));
+        userVersionStamp.bump(addressModifyDto.getUserId());
     }
 
     // 주소삭제
     @Override
     @Transactional
-    public void deleteAddress(Long addressId) {
-
-        // 삭제할 주소 조회
-        Address address = addressRepository.findById(addressId)
-                .orElseThrow(() -> new CustomException(ResponseCode.CANNOT_FIND_ADDRESS));
+    public void deleteAddress(Long userId, Long addressId) {
 
-        // 유저 주소 중간테이블 조회
-        UserAddressList userAddressList = userAddressListRepository.findByAddress(address);
+        // 삭제할 주소와 유저 주소 중간테이블 조회 (유저의 주소가 아니면 에러)
+        UserAddressList userAddressList = findOwnedAddress(userId, addressId);
+        Address address = userAddressList.getAddress();
 
         // 삭제할 주소가 대표 주소인 경우 에러
         if(userAddressList.getDefaultAddress()) {
@@ -171,46 +150,54 @@ public class AddressServiceImpl implements AddressService {
 
         // 주소 삭제
         addressRepository.delete(address);
+
+        eventPublisher.publishEvent(new AddressChangedEvent(userId));
+        userVersionStamp.bump(userId);
     }
 
     // 대표주소 조회
     @Override
-    public AddressDefaultResponse getDefaultAddress(User user) {
-
-        // 유저 주소 중간 테이블에서 대표주소 조회
-        UserAddressList userAddressList = userAddressListRepository.findByUserAndDefaultAddress(
-                user, Boolean.TRUE);
+    @Transactional(readOnly = true)
+    public AddressDefaultResponse getDefaultAddress(Long userId) {
 
-        // 주소 정보가 없는 경우 에러
-        if(userAddressList == null) {
-            throw new CustomException(ResponseCode.CANNOT_FIND_ADDRESS);
-        }
+        // 유저 행의 대표주소 스냅샷 조회 (주소 정보가 없는 경우 에러)
+        DefaultAddress defaultAddress = userRepository.findDefaultAddressById(userId)
+                .orElseThrow(() -> new CustomException(ResponseCode.CANNOT_FIND_ADDRESS));
 
         return AddressDefaultResponse.builder()
-                .id(userAddressList.getAddress().getId())
-                .localAddress(userAddressList.getAddress().getLocalAddress())
-                .extraAddress(userAddressList.getAddress().getExtraAddress())
-                .defaultAddress(userAddressList.getDefaultAddress())
-                .localCode(userAddressList.getAddress().getLocalCode())
+                .id(defaultAddress.getAddressId())
+                .localAddress(defaultAddress.getLocalAddress())
+                .extraAddress(defaultAddress.getExtraAddress())
+                .defaultAddress(Boolean.TRUE)
+                .localCode(defaultAddress.getLocalCode())
                 .build();
     }
 
     // 대표주소 변경
     @Override
     @Transactional
-    public void modifyDefaultAddress(User user, Long addressId) {
+    public void modifyDefaultAddress(Long userId, Long addressId) {
 
-        // 기존 대표주소였던 주소를 일반주소로 수정
-        UserAddressList userAddressList = userAddressListRepository.findByUserAndDefaultAddress(user, Boolean.TRUE);
-        userAddressList.setDefaultAddress(Boolean.FALSE);
+        // 유저의 주소인 경우에만 대표주소로, 나머지는 일반주소로 한 번에 변경
+        if(userAddressListRepository.switchDefaultAddress(userId, addressId) == 0) {
+            throw new CustomException(ResponseCode.CANNOT_FIND_ADDRESS);
+        }
+        // 유저의 대표주소 스냅샷 갱신
+        userRepository.syncDefaultAddress(userId);
 
-        // 대표주소를 변경할 주소를 조회
-        Address address = addressRepository.findById(addressId)
+        eventPublisher.publishEvent(new AddressChangedEvent(userId));
+        userVersionStamp.bump(userId);
+    }
+
+    // 유저의 주소 조회 (없거나 다른 유저의 주소면 존재 여부를 드러내지 않도록 같은 에러)
+    private UserAddressList findOwnedAddress(Long userId, Long addressId) {
+        return userAddressListRepository.findOwnedAddress(userId, addressId)
                 .orElseThrow(() -> new CustomException(ResponseCode.CANNOT_FIND_ADDRESS));
+    }
 
-        // 대표주소를 변경
-        UserAddressList newDefaultAddress = userAddressListRepository.findByAddress(address);
-        newDefaultAddress.setDefaultAddress(Boolean.TRUE);
+    // 캐시(로컬 -> Redis -> DB)에서 주소리스트 조회
+    private List<AddressListForSearchResponse> getCachedAddressList(Long userId) {
+        return addressCache.get(userId, userAddressListRepository::findAddressListForSearchByUserId);
     }
 
 }
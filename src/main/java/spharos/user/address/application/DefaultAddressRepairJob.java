@@ -0,0 +1,72 @@
+package spharos.user.address.application;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import spharos.user.global.config.shard.ShardRouter;
+import spharos.user.users.infrastructure.UserEntityCacheEvictor;
+import spharos.user.users.infrastructure.UserRepository;
+
+import java.util.List;
+
+/*
+    유저 대표주소 스냅샷 복구 작업
+    - user_address_list 의 대표주소와 유저 행의 스냅샷이 다른 유저를 id 순으로 batch-size 만큼씩 찾아 다시 동기화
+    - 주소 변경은 같은 트랜잭션에서 스냅샷을 갱신하므로, 직접 수정한 데이터나 배포 이전 데이터만 대상이 됨
+    - 트랜잭션 없이 유저마다 바로 커밋되므로 동기화 직후 2차 캐시에서 제거
+ */
+@Slf4j
+@Component
+public class DefaultAddressRepairJob {
+
+    private final UserRepository userRepository;
+    private final ShardRouter shardRouter;
+    private final UserEntityCacheEvictor userEntityCacheEvictor;
+    private final int batchSize;
+
+    public DefaultAddressRepairJob(UserRepository userRepository,
+                                   ShardRouter shardRouter,
+                                   UserEntityCacheEvictor userEntityCacheEvictor,
+                                   @Value("${default-address-repair.batch-size}") int batchSize) {
+        this.userRepository = userRepository;
+        this.shardRouter = shardRouter;
+        this.userEntityCacheEvictor = userEntityCacheEvictor;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${default-address-repair.cron}")
+    public void scheduledRepair() {
+        int repaired = repair();
+        if (repaired > 0) {
+            log.warn("default address snapshot drift repaired. count={}", repaired);
+        }
+    }
+
+    // 스냅샷이 어긋난 유저를 모두 복구하고 복구한 유저 수를 반환 (샤딩 사용시 샤드마다 차례로)
+    public int repair() {
+        int[] repaired = new int[1];
+        shardRouter.forEachShard(shard -> repaired[0] += repairShard());
+        return repaired[0];
+    }
+
+    private int repairShard() {
+        int repaired = 0;
+        long afterId = 0L;
+
+        while (true) {
+            List<Long> driftIds = userRepository.findDefaultAddressDriftIds(afterId, PageRequest.of(0, batchSize));
+            if (driftIds.isEmpty()) {
+                return repaired;
+            }
+
+            for (Long userId : driftIds) {
+                repaired += userRepository.syncDefaultAddress(userId);
+                userEntityCacheEvictor.evict(userId);
+            }
+            afterId = driftIds.get(driftIds.size() - 1);
+        }
+    }
+
+}
@@ -2,15 +2,21 @@ package spharos.user.address.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
 @Table(name = "address")
+// 필드를 바꾸면 EntityCacheStorage.FORMAT_VERSION 을 올림 (Redis 에 저장된 이전 형식의 엔트리를 읽지 않도록)
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "address")
 public class Address {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "address_id_generator")
+    @TableGenerator(name = "address_id_generator", table = "id_sequence", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "address", allocationSize = 100)
     private Long id;
     @Column(nullable = false, length = 100, name = "local_address")
     private String localAddress;
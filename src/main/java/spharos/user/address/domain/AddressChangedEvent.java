@@ -0,0 +1,13 @@
+package spharos.user.address.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 유저의 주소(등록, 수정, 삭제, 대표주소 변경)가 변경되었음을 알리는 이벤트
+@Getter
+@AllArgsConstructor
+public class AddressChangedEvent {
+
+    private final Long userId;
+
+}
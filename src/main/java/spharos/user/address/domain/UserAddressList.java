@@ -9,11 +9,15 @@ import spharos.user.users.domain.User;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "user_address_list")
+@Table(name = "user_address_list",
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_address_list_default_user",
+                columnNames = "default_user_id"))
 public class UserAddressList {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_address_list_id_generator")
+    @TableGenerator(name = "user_address_list_id_generator", table = "id_sequence", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "user_address_list", allocationSize = 100)
     private Long id;
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(nullable = false)
@@ -23,6 +27,10 @@ public class UserAddressList {
     private Address address;
     @Column(nullable = false, name = "default_address", columnDefinition = "boolean default false")
     private Boolean defaultAddress;
+    // 대표주소인 경우에만 user_id 를 갖는 생성 컬럼 (유니크 인덱스로 유저당 대표주소 1개를 DB 에서 보장)
+    @Column(name = "default_user_id", insertable = false, updatable = false,
+            columnDefinition = "bigint generated always as (case when default_address then user_id end)")
+    private Long defaultUserId;
 
     private UserAddressList(User user, Address address, Boolean defaultAddress) {
         this.user = user;
@@ -1,7 +1,6 @@
 package spharos.user.address.dto;
 
 import lombok.*;
-import spharos.user.users.domain.User;
 
 @Builder
 @Getter
@@ -11,7 +10,7 @@ import spharos.user.users.domain.User;
 public class AddressModifyDto {
 
     private Long addressId;
-    private User user;
+    private Long userId;
     private String localAddress;
     private String extraAddress;
     private Integer localCode;
@@ -1,7 +1,6 @@
 package spharos.user.address.dto;
 
 import lombok.*;
-import spharos.user.users.domain.User;
 
 @Builder
 @Getter
@@ -10,7 +9,7 @@ import spharos.user.users.domain.User;
 @NoArgsConstructor
 public class AddressRegisterDto {
 
-    private User user;
+    private Long userId;
     private String localAddress;
     private String extraAddress;
     private Boolean defaultAddress;
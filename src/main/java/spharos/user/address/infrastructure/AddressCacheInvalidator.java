@@ -0,0 +1,60 @@
+package spharos.user.address.infrastructure;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import spharos.user.address.application.AddressCache;
+import spharos.user.address.domain.AddressChangedEvent;
+
+import java.nio.charset.StandardCharsets;
+
+/*
+    주소 변경시 주소리스트 캐시를 무효화
+    - 커밋 이후 Redis 캐시와 자기 자신의 로컬 캐시를 제거하고, pub/sub 채널로 다른 인스턴스의 로컬 캐시도 제거
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class AddressCacheInvalidator implements MessageListener {
+
+    private static final ChannelTopic TOPIC = new ChannelTopic("user-service:address:invalidate");
+
+    private final AddressCache addressCache;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, TOPIC);
+    }
+
+    // 주소 변경 트랜잭션 커밋 후 무효화
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void publish(AddressChangedEvent event) {
+
+        // Redis 장애시에도 자기 자신의 로컬 캐시는 바로 제거
+        addressCache.evictLocal(event.getUserId());
+
+        try {
+            addressCache.evict(event.getUserId());
+            stringRedisTemplate.convertAndSend(TOPIC.getTopic(), String.valueOf(event.getUserId()));
+        } catch (RuntimeException e) {
+            log.warn("address cache invalidation failed. userId={}", event.getUserId(), e);
+        }
+    }
+
+    // 다른 인스턴스에서 발행한 무효화 메시지 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        addressCache.evictLocal(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)));
+    }
+
+}
@@ -0,0 +1,71 @@
+package spharos.user.address.infrastructure;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import spharos.user.address.vo.AddressListForSearchResponse;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+    유저 주소리스트 캐시 바이너리 직렬화
+    | 버전(1) | 주소 수(2) | (주소 id(8) | 주소(UTF) | 상세주소(UTF) | 대표주소 여부(1) | 지역코드(4)) * 주소 수 |
+    - 필드명을 반복해서 저장하지 않으므로 JSON 보다 작고, 형식을 바꾸면 버전을 올려 이전 값은 캐시 미스로 처리
+ */
+public class AddressListSerializer implements RedisSerializer<List<AddressListForSearchResponse>> {
+
+    private static final byte VERSION = 1;
+
+    @Override
+    public byte[] serialize(List<AddressListForSearchResponse> addressList) throws SerializationException {
+        if (addressList == null) {
+            return null;
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(16 + addressList.size() * 64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeShort(addressList.size());
+            for (AddressListForSearchResponse address : addressList) {
+                out.writeLong(address.getId());
+                out.writeUTF(address.getLocalAddress());
+                out.writeUTF(address.getExtraAddress());
+                out.writeBoolean(Boolean.TRUE.equals(address.getDefaultAddress()));
+                out.writeInt(address.getLocalCode());
+            }
+        } catch (IOException e) {
+            throw new SerializationException("address list serialize failed", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public List<AddressListForSearchResponse> deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            if (in.readByte() != VERSION) {
+                return null;
+            }
+
+            int size = in.readUnsignedShort();
+            List<AddressListForSearchResponse> addressList = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                addressList.add(AddressListForSearchResponse.builder()
+                        .id(in.readLong())
+                        .localAddress(in.readUTF())
+                        .extraAddress(in.readUTF())
+                        .defaultAddress(in.readBoolean())
+                        .localCode(in.readInt())
+                        .build());
+            }
+            return addressList;
+        } catch (IOException e) {
+            throw new SerializationException("address list deserialize failed", e);
+        }
+    }
+
+}
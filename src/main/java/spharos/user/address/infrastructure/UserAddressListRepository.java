@@ -1,16 +1,60 @@
 package spharos.user.address.infrastructure;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import spharos.user.address.domain.Address;
 import spharos.user.address.domain.UserAddressList;
-import spharos.user.users.domain.User;
+import spharos.user.address.vo.AddressListForSearchResponse;
+import spharos.user.global.config.shard.ShardKey;
 
 import java.util.List;
+import java.util.Optional;
+
+import static spharos.user.global.config.shard.ShardKey.Type.USER_ID;
 
 public interface UserAddressListRepository extends JpaRepository<UserAddressList, Long> {
 
-    UserAddressList findByUserAndDefaultAddress(User user, Boolean defaultAddress);
-    List<UserAddressList> findByUser(User user);
+    // 샤딩 사용시 @ShardKey 유저의 샤드에서 조회 (그 외에는 트랜잭션의 샤드 또는 로그인한 유저의 샤드)
+    UserAddressList findByUserIdAndDefaultAddress(@ShardKey(USER_ID) Long userId, Boolean defaultAddress);
+    List<UserAddressList> findByUserId(@ShardKey(USER_ID) Long userId);
     UserAddressList findByAddress(Address address);
 
+    // 유저의 주소인 경우에만 유저 주소 중간 테이블과 주소를 함께 조회 (다른 유저의 주소면 empty)
+    @Query("""
+            select ual from UserAddressList ual join fetch ual.address
+            where ual.user.id = :userId and ual.address.id = :addressId
+            """)
+    Optional<UserAddressList> findOwnedAddress(@ShardKey(USER_ID) @Param("userId") Long userId,
+                                               @Param("addressId") Long addressId);
+
+    /*
+        대표주소 변경 - 유저의 주소 중 addressId 만 대표주소로, 나머지는 일반주소로 한 번의 UPDATE 로 변경
+        - addressId 가 유저의 주소가 아니면 아무 행도 바뀌지 않음 (0 반환)
+        - 같은 테이블을 참조하는 서브쿼리는 MySQL 에서 DISTINCT 파생 테이블로 감싸야 먼저 구체화되어 사용 가능
+        - 기존 대표주소 행을 먼저 갱신해야 default_user_id 유니크 인덱스에 걸리지 않으므로 대표주소 순으로 정렬
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            update user_address_list
+            set default_address = (address_id = :addressId)
+            where user_id = :userId
+              and exists (select 1 from (select distinct address_id from user_address_list
+                                         where user_id = :userId and address_id = :addressId) owned)
+            order by default_address desc
+            """, nativeQuery = true)
+    int switchDefaultAddress(@ShardKey(USER_ID) @Param("userId") Long userId, @Param("addressId") Long addressId);
+
+    // 주소리스트 조회 - 주소까지 한 번의 조인 쿼리로 조회 (주소리스트, 업체검색용 조회가 AddressCache 로 공유)
+    @Query("""
+            select new spharos.user.address.vo.AddressListForSearchResponse(
+                a.id, a.localAddress, a.extraAddress, ual.defaultAddress, a.localCode)
+            from UserAddressList ual join ual.address a
+            where ual.user.id = :userId
+            order by ual.id
+            """)
+    List<AddressListForSearchResponse> findAddressListForSearchByUserId(
+            @ShardKey(USER_ID) @Param("userId") Long userId);
+
 }
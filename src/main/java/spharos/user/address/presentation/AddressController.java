@@ -3,12 +3,14 @@ package spharos.user.address.presentation;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import spharos.user.address.application.AddressService;
 import spharos.user.address.vo.*;
 import spharos.user.global.common.response.BaseResponse;
-import spharos.user.users.application.UserService;
-import spharos.user.users.domain.User;
+import spharos.user.global.config.security.AuthUser;
+import spharos.user.users.application.UserVersionStamp;
 import spharos.user.address.dto.AddressModifyDto;
 import spharos.user.address.dto.AddressRegisterDto;
 
@@ -21,20 +23,23 @@ import java.util.List;
 public class AddressController {
 
     private final AddressService addressService;
-    private final UserService userService;
+    private final UserVersionStamp userVersionStamp;
 
     /*
         주소리스트 조회
+        - 버전 스탬프 ETag 가 If-None-Match 와 같으면 주소를 읽지 않고 304
      */
     @Operation(summary = "주소리스트 조회", description = "등록되어 있는 주소리스트 전체 조회", tags = { "Address" })
     @GetMapping("/address")
-    public BaseResponse<?> getAddressList(@RequestHeader("email") String email) {
+    public BaseResponse<?> getAddressList(@AuthenticationPrincipal AuthUser authUser,
+                                          ServletWebRequest webRequest) {
 
-        // 이메일로 유저정보 찾기
-        User user = userService.getUserFromEmail(email);
+        if (userVersionStamp.checkNotModified(authUser.getUserId(), "address", webRequest)) {
+            return null;
+        }
 
         // 주소 리스트 조회
-        List<AddressResponse> addressResponseList = addressService.getAddressList(user);
+        List<AddressResponse> addressResponseList = addressService.getAddressList(authUser.getUserId());
         return new BaseResponse<>(addressResponseList);
     }
 
@@ -45,13 +50,11 @@ public class AddressController {
             description = "주소리스트 조회 - 업체검색용",
             tags = { "Address" })
     @GetMapping("/address/list")
-    public BaseResponse<?> getAddressListForSearch(@RequestHeader("email") String email) {
-
-        // 이메일로 유저정보 찾기
-        User user = userService.getUserFromEmail(email);
+    public BaseResponse<?> getAddressListForSearch(@AuthenticationPrincipal AuthUser authUser) {
 
         // 주소 리스트 조회
-        List<AddressListForSearchResponse> addressResponseList = addressService.getAddressListForSearch(user);
+        List<AddressListForSearchResponse> addressResponseList =
+                addressService.getAddressListForSearch(authUser.getUserId());
         return new BaseResponse<>(addressResponseList);
     }
 
@@ -62,10 +65,11 @@ public class AddressController {
             description = "상세 주소 조회(수정페이지표시용)",
             tags = { "Address" })
     @GetMapping("/address/{addressId}")
-    public BaseResponse<?> getAddressDetail(@PathVariable("addressId") Long addressId) {
+    public BaseResponse<?> getAddressDetail(@AuthenticationPrincipal AuthUser authUser,
+                                            @PathVariable("addressId") Long addressId) {
 
         // 상세 주소 조회(수정페이지표시용)
-        AddressDetailResponse response = addressService.getAddressDetail(addressId);
+        AddressDetailResponse response = addressService.getAddressDetail(authUser.getUserId(), addressId);
         return new BaseResponse<>(response);
     }
 
@@ -74,14 +78,11 @@ public class AddressController {
      */
     @Operation(summary = "주소등록", description = "새로운 주소를 등록", tags = { "Address" })
     @PostMapping("/address")
-    public BaseResponse<?> registerAddress(@RequestHeader("email") String email,
+    public BaseResponse<?> registerAddress(@AuthenticationPrincipal AuthUser authUser,
                                                   @RequestBody AddressRegisterRequest addressRegisterRequest) {
 
-        // 이메일로 유저정보 찾기
-        User user = userService.getUserFromEmail(email);
-
         AddressRegisterDto addressRegisterDto = AddressRegisterDto.builder()
-                .user(user)
+                .userId(authUser.getUserId())
                 .localAddress(addressRegisterRequest.getLocalAddress())
                 .extraAddress(addressRegisterRequest.getExtraAddress())
                 .defaultAddress(addressRegisterRequest.getDefaultAddress())
@@ -98,16 +99,13 @@ public class AddressController {
      */
     @Operation(summary = "주소수정", description = "등록되어있는 주소를 수정", tags = { "Address" })
     @PutMapping("/address")
-    public BaseResponse<?> modify(@RequestHeader("email") String email,
+    public BaseResponse<?> modify(@AuthenticationPrincipal AuthUser authUser,
                                          @RequestBody AddressModifyRequest addressModifyRequest) {
 
-        // 이메일로 유저정보 찾기
-        User user = userService.getUserFromEmail(email);
-
         // 주소 수정
         AddressModifyDto addressModifyDto = AddressModifyDto.builder()
                 .addressId(addressModifyRequest.getAddressId())
-                .user(user)
+                .userId(authUser.getUserId())
                 .localAddress(addressModifyRequest.getLocalAddress())
                 .extraAddress(addressModifyRequest.getExtraAddress())
                 .localCode(addressModifyRequest.getLocalCode())
@@ -123,25 +121,28 @@ public class AddressController {
             description = "해당하는 주소를 삭제, 단 대표주소의 경우 삭제 불가",
             tags = { "Address" })
     @DeleteMapping("/address/{addressId}")
-    public BaseResponse<?> deleteAddress(@RequestHeader("email") String email,
+    public BaseResponse<?> deleteAddress(@AuthenticationPrincipal AuthUser authUser,
                                                 @PathVariable("addressId") Long addressId) {
         // 주소 삭제
-        addressService.deleteAddress(addressId);
+        addressService.deleteAddress(authUser.getUserId(), addressId);
         return new BaseResponse<>();
     }
 
     /*
         대표주소 조회
+        - 버전 스탬프 ETag 가 If-None-Match 와 같으면 주소를 읽지 않고 304
      */
     @Operation(summary = "대표주소 조회", description = "대표주소로 설정된 주소를 조회", tags = { "Address" })
     @GetMapping("/address/default")
-    public BaseResponse<?> getDefaultAddress(@RequestHeader("email") String email) {
+    public BaseResponse<?> getDefaultAddress(@AuthenticationPrincipal AuthUser authUser,
+                                             ServletWebRequest webRequest) {
 
-        // 이메일로 유저정보 찾기
-        User user = userService.getUserFromEmail(email);
+        if (userVersionStamp.checkNotModified(authUser.getUserId(), "address-default", webRequest)) {
+            return null;
+        }
 
         // 대표주소 조회
-        AddressDefaultResponse addressDefaultResponse = addressService.getDefaultAddress(user);
+        AddressDefaultResponse addressDefaultResponse = addressService.getDefaultAddress(authUser.getUserId());
         return new BaseResponse<>(addressDefaultResponse);
     }
 
@@ -150,13 +151,11 @@ public class AddressController {
      */
     @Operation(summary = "대표주소 변경", description = "대표주소를 변경", tags = { "Address" })
     @PutMapping("/address/default/{addressId}")
-    public BaseResponse<?> modify(@RequestHeader("email") String email, @PathVariable("addressId") Long addressId) {
-
-        // 이메일로 유저정보 찾기
-        User user = userService.getUserFromEmail(email);
+    public BaseResponse<?> modify(@AuthenticationPrincipal AuthUser authUser,
+                                  @PathVariable("addressId") Long addressId) {
 
         // 대표주소 변경
-        addressService.modifyDefaultAddress(user, addressId);
+        addressService.modifyDefaultAddress(authUser.getUserId(), addressId);
         return new BaseResponse<>();
     }
 }
@@ -0,0 +1,15 @@
+package spharos.user.global.common.bloom;
+
+// 블룸 필터의 비트 배열 저장소 (로컬 메모리 또는 Redis 비트맵)
+public interface BloomBitStore {
+
+    // 주어진 위치의 비트를 모두 1로 설정
+    void set(long[] indexes);
+
+    // 주어진 위치의 비트가 모두 1인지 확인
+    boolean allSet(long[] indexes);
+
+    // 1로 설정된 비트 수
+    long bitCount();
+
+}
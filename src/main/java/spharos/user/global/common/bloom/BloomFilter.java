@@ -0,0 +1,79 @@
+package spharos.user.global.common.bloom;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+
+/*
+    블룸 필터
+    - mightContain 이 false 이면 해당 값은 확실히 존재하지 않음
+    - true 인 경우에는 오탐(false positive)일 수 있으므로 실제 저장소에서 다시 확인해야 함
+ */
+@Getter
+public class BloomFilter {
+
+    private final long bitSize;
+    private final int hashCount;
+    private final BloomBitStore bitStore;
+
+    private BloomFilter(long bitSize, int hashCount, BloomBitStore bitStore) {
+        this.bitSize = bitSize;
+        this.hashCount = hashCount;
+        this.bitStore = bitStore;
+    }
+
+    // 예상 저장 개수와 목표 오탐률로 비트 수와 해시 함수 수 계산
+    public static BloomFilter create(long expectedInsertions, double falsePositiveProbability,
+                                     BloomBitStore bitStore) {
+        long bitSize = bitSize(expectedInsertions, falsePositiveProbability);
+        return new BloomFilter(bitSize, hashCount(expectedInsertions, bitSize), bitStore);
+    }
+
+    public static long bitSize(long expectedInsertions, double falsePositiveProbability) {
+        return (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+    }
+
+    public static int hashCount(long expectedInsertions, long bitSize) {
+        return Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+    }
+
+    public void put(String value) {
+        bitStore.set(indexes(value));
+    }
+
+    public boolean mightContain(String value) {
+        return bitStore.allSet(indexes(value));
+    }
+
+    // 현재 비트 채움 비율로 계산한 예상 오탐률
+    public double expectedFalsePositiveProbability() {
+        return Math.pow((double) bitStore.bitCount() / bitSize, hashCount);
+    }
+
+    // 64비트 해시 두 개로 k개의 비트 위치를 만듦 (double hashing)
+    private long[] indexes(String value) {
+        long hash1 = mix(fnv1a(value.getBytes(StandardCharsets.UTF_8)));
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1;
+        long[] indexes = new long[hashCount];
+        for (int i = 0; i < hashCount; i++) {
+            indexes[i] = Math.floorMod(hash1 + i * hash2, bitSize);
+        }
+        return indexes;
+    }
+
+    private static long fnv1a(byte[] bytes) {
+        long hash = 0xCBF29CE484222325L;
+        for (byte b : bytes) {
+            hash ^= (b & 0xFF);
+            hash *= 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    private static long mix(long hash) {
+        hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+        return hash ^ (hash >>> 31);
+    }
+
+}
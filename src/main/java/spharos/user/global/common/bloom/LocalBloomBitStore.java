@@ -0,0 +1,60 @@
+package spharos.user.global.common.bloom;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 인스턴스 메모리에 비트 배열을 보관하는 저장소
+public class LocalBloomBitStore implements BloomBitStore {
+
+    private final AtomicLongArray words;
+
+    public LocalBloomBitStore(long bitSize) {
+        this.words = new AtomicLongArray(Math.toIntExact((bitSize + 63) >>> 6));
+    }
+
+    @Override
+    public void set(long[] indexes) {
+        for (long index : indexes) {
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long value;
+            do {
+                value = words.get(word);
+            } while ((value & mask) == 0 && !words.compareAndSet(word, value, value | mask));
+        }
+    }
+
+    @Override
+    public boolean allSet(long[] indexes) {
+        for (long index : indexes) {
+            if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public long bitCount() {
+        long count = 0;
+        for (int i = 0; i < words.length(); i++) {
+            count += Long.bitCount(words.get(i));
+        }
+        return count;
+    }
+
+    // Redis 비트맵 형식(바이트 단위 MSB 우선)으로 변환
+    public byte[] toRedisBitmap() {
+        byte[] bitmap = new byte[words.length() * Long.BYTES];
+        for (int i = 0; i < words.length(); i++) {
+            long word = words.get(i);
+            while (word != 0) {
+                int bit = Long.numberOfTrailingZeros(word);
+                long index = ((long) i << 6) + bit;
+                bitmap[(int) (index >>> 3)] |= (byte) (0x80 >>> (index & 7));
+                word &= word - 1;
+            }
+        }
+        return bitmap;
+    }
+
+}
@@ -0,0 +1,102 @@
+package spharos.user.global.common.bloom;
+
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/*
+    Redis 비트맵에 비트 배열을 보관하는 저장소 (모든 인스턴스가 같은 필터를 공유)
+    - 재구성 중에는 재구성 키가 있으며, 모든 인스턴스의 비트 설정이 재구성 키에도 반영됨
+    - 재구성이 끝나면 새로 만든 비트맵을 재구성 키에 OR 로 합친 뒤 교체하므로 재구성 중에 추가된 값이 사라지지 않음
+    - 재구성 키는 비트맵 키 뒤에 붙이므로 Redis Cluster 에서는 비트맵 키에 해시 태그가 있어야 함
+ */
+public class RedisBloomBitStore implements BloomBitStore {
+
+    // KEYS[1] 비트맵, KEYS[2] 재구성 키, ARGV 비트 위치
+    private static final byte[] SET_SCRIPT = """
+            local rebuilding = redis.call('EXISTS', KEYS[2]) == 1
+            for i = 1, #ARGV do
+                redis.call('SETBIT', KEYS[1], ARGV[i], 1)
+                if rebuilding then
+                    redis.call('SETBIT', KEYS[2], ARGV[i], 1)
+                end
+            end
+            return 1
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private final StringRedisTemplate template;
+    private final byte[] key;
+    private final byte[] rebuildKey;
+    private final byte[] uploadKey;
+
+    public RedisBloomBitStore(StringRedisTemplate template, String key) {
+        this.template = template;
+        this.key = key.getBytes(StandardCharsets.UTF_8);
+        this.rebuildKey = (key + ":rebuild").getBytes(StandardCharsets.UTF_8);
+        this.uploadKey = (key + ":upload").getBytes(StandardCharsets.UTF_8);
+    }
+
+    // 한 번의 왕복으로 모든 비트 설정 (재구성 중이면 재구성 키에도 설정)
+    @Override
+    public void set(long[] indexes) {
+        byte[][] keysAndArgs = new byte[indexes.length + 2][];
+        keysAndArgs[0] = key;
+        keysAndArgs[1] = rebuildKey;
+        for (int i = 0; i < indexes.length; i++) {
+            keysAndArgs[i + 2] = Long.toString(indexes[i]).getBytes(StandardCharsets.UTF_8);
+        }
+        template.execute((RedisCallback<Object>) connection ->
+                connection.scriptingCommands().eval(SET_SCRIPT, ReturnType.INTEGER, 2, keysAndArgs));
+    }
+
+    // 한 번의 왕복으로 모든 비트 조회
+    @Override
+    public boolean allSet(long[] indexes) {
+        List<Object> bits = template.executePipelined((RedisCallback<Object>) connection -> {
+            for (long index : indexes) {
+                connection.stringCommands().getBit(key, index);
+            }
+            return null;
+        });
+        return bits.stream().allMatch(Boolean.TRUE::equals);
+    }
+
+    @Override
+    public long bitCount() {
+        Long count = template.execute((RedisCallback<Long>) connection -> connection.stringCommands().bitCount(key));
+        return count == null ? 0 : count;
+    }
+
+    // 비트맵 존재 여부
+    public boolean exists() {
+        return Boolean.TRUE.equals(template.execute((RedisCallback<Boolean>) connection ->
+                connection.keyCommands().exists(key)));
+    }
+
+    // 재구성 시작 - 빈 재구성 키를 만들어 이후 설정되는 비트를 모음 (이전에 중단된 재구성 키는 비움)
+    public void beginRebuild() {
+        template.execute((RedisCallback<Object>) connection ->
+                connection.stringCommands().set(rebuildKey, new byte[0]));
+    }
+
+    // 재구성 완료 - 로컬에서 만든 비트맵을 재구성 키에 OR 로 합친 뒤 비트맵과 교체
+    public void completeRebuild(byte[] bitmap) {
+        template.execute((RedisCallback<Object>) connection -> {
+            connection.stringCommands().set(uploadKey, bitmap);
+            connection.stringCommands().bitOp(RedisStringCommands.BitOperation.OR, rebuildKey, rebuildKey, uploadKey);
+            connection.keyCommands().del(uploadKey);
+            connection.keyCommands().rename(rebuildKey, key);
+            return null;
+        });
+    }
+
+    // 재구성 실패시 재구성 키 삭제 (이후 비트 설정은 비트맵에만 반영)
+    public void abortRebuild() {
+        template.execute((RedisCallback<Object>) connection -> connection.keyCommands().del(rebuildKey, uploadKey));
+    }
+
+}
@@ -1,9 +1,15 @@
 package spharos.user.global.common.response;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.Builder;
 import lombok.Getter;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
 @Getter
 @Builder
 public class ErrorResponse {
@@ -12,15 +18,27 @@ public class ErrorResponse {
     private final int code;
     private final String message;
 
+    public static ErrorResponse of(ResponseCode responseCode) {
+        return ErrorResponse.builder()
+                .success(false)
+                .code(responseCode.getCode())
+                .message(responseCode.getMessage())
+                .build();
+    }
+
     public static ResponseEntity<ErrorResponse> toResponseEntity(ResponseCode responseCode) {
         return ResponseEntity
                 .status(responseCode.getHttpStatus())
-                .body(ErrorResponse.builder()
-                        .success(false)
-                        .code(responseCode.getCode())
-                        .message(responseCode.getMessage())
-                        .build()
-                );
+                .body(of(responseCode));
+    }
+
+    // 컨트롤러 밖(필터 등)이나 응답 스트림을 직접 쓰는 핸들러에서 에러 응답을 직접 씀 (getOutputStream 을 이미 얻은 경우에도 사용 가능)
+    public static void write(HttpServletResponse response, ObjectMapper objectMapper,
+                             ResponseCode responseCode) throws IOException {
+        response.setStatus(responseCode.getHttpStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), of(responseCode));
     }
 
 }
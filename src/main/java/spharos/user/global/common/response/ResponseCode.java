@@ -23,7 +23,13 @@ public enum ResponseCode {
     NOT_EXISTS_USER_EMAIL(HttpStatus.BAD_REQUEST, false, 1040,"해당하는 유저 이메일이 존재하지 않습니다."),
     CANNOT_FIND_USER(HttpStatus.BAD_REQUEST, false, 1050,"유저 정보를 찾을 수 없습니다."),
     CANNOT_FIND_ADDRESS(HttpStatus.BAD_REQUEST, false, 1060,"주소 정보를 찾을 수 없습니다."),
-    CANNOT_DELETE_DEFAULT_ADDRESS(HttpStatus.BAD_REQUEST, false, 1070,"대표주소는 삭제 할 수 없습니다.");
+    CANNOT_DELETE_DEFAULT_ADDRESS(HttpStatus.BAD_REQUEST, false, 1070,"대표주소는 삭제 할 수 없습니다."),
+    INVALID_REQUEST_BODY(HttpStatus.BAD_REQUEST, false, 1080,"요청 형식이 올바르지 않습니다."),
+    SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, false, 1090,"요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
+    INVALID_TOKEN(HttpStatus.UNAUTHORIZED, false, 1100,"유효하지 않은 토큰입니다."),
+    EXPIRED_TOKEN(HttpStatus.UNAUTHORIZED, false, 1110,"만료된 토큰입니다."),
+    REUSED_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, false, 1120,"이미 사용된 토큰입니다. 다시 로그인해 주세요."),
+    INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, false, 1130,"요청을 처리하지 못했습니다.");
 
     private final HttpStatus httpStatus;
     private final boolean success;
@@ -0,0 +1,96 @@
+package spharos.user.global.config.async;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+import org.springframework.stereotype.Component;
+import spharos.user.global.common.response.ResponseCode;
+import spharos.user.global.config.thread.WorkerExecutors;
+import spharos.user.global.exception.CustomException;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/*
+    인증 API 비동기 실행기 (로그인, 회원가입, 비밀번호 변경/확인)
+    - 컨트롤러는 CompletableFuture 를 바로 반환해 Tomcat 스레드를 놓고, 서비스 호출(DB 조회 + 비밀번호 해시)은 전용 스레드풀에서 실행
+    - AuthWorkload 분류별 동시 처리 수(auth-async.limits.*)를 넘으면 대기하지 않고 바로 SERVER_BUSY (503, Retry-After)
+    - 로그인이 몰려도 다른 분류와 나머지 API(헬스체크 등)는 영향을 받지 않음
+    - 인증정보(SecurityContext)를 작업 스레드로 전달 (샤드, 복제본 라우팅이 AuthUser 를 사용)
+    - 분류별 처리 중 개수는 auth.async.inflight, 거절 수는 auth.async.rejected 로 확인
+ */
+@Slf4j
+@Component
+public class AuthWorkExecutor {
+
+    private final ExecutorService executor;
+    private final DelegatingSecurityContextExecutor contextExecutor;
+    private final Map<AuthWorkload, Semaphore> permits = new EnumMap<>(AuthWorkload.class);
+    private final Map<AuthWorkload, Counter> rejectedCounters = new EnumMap<>(AuthWorkload.class);
+
+    public AuthWorkExecutor(@Value("${auth-async.pool-size}") int poolSize,
+                            @Value("${auth-async.queue-capacity}") int queueCapacity,
+                            @Value("${auth-async.limits.login}") int loginLimit,
+                            @Value("${auth-async.limits.join}") int joinLimit,
+                            @Value("${auth-async.limits.password-change}") int passwordChangeLimit,
+                            @Value("${auth-async.limits.password-check}") int passwordCheckLimit,
+                            WorkerExecutors workerExecutors,
+                            MeterRegistry meterRegistry) {
+
+        this.executor = workerExecutors.create("auth-work", poolSize, queueCapacity, "auth.async", meterRegistry);
+        this.contextExecutor = new DelegatingSecurityContextExecutor(executor);
+
+        Map<AuthWorkload, Integer> limits = Map.of(
+                AuthWorkload.LOGIN, loginLimit,
+                AuthWorkload.JOIN, joinLimit,
+                AuthWorkload.PASSWORD_CHANGE, passwordChangeLimit,
+                AuthWorkload.PASSWORD_CHECK, passwordCheckLimit);
+        for (AuthWorkload workload : AuthWorkload.values()) {
+            int limit = limits.get(workload);
+            Semaphore semaphore = new Semaphore(limit);
+            permits.put(workload, semaphore);
+            rejectedCounters.put(workload, meterRegistry.counter("auth.async.rejected", "workload", workload.getKey()));
+            meterRegistry.gauge("auth.async.inflight", Tags.of("workload", workload.getKey()),
+                    semaphore, s -> limit - s.availablePermits());
+        }
+
+        log.info("auth work executor. poolSize={}, queueCapacity={}, virtual={}, limits={}",
+                poolSize, queueCapacity, workerExecutors.isVirtual(), limits);
+    }
+
+    // 작업 실행 - 분류별 한도를 넘었거나 스레드풀 대기열이 가득 차면 SERVER_BUSY
+    public <T> CompletableFuture<T> submit(AuthWorkload workload, Supplier<T> task) {
+        Semaphore semaphore = permits.get(workload);
+        if (!semaphore.tryAcquire()) {
+            rejectedCounters.get(workload).increment();
+            throw new CustomException(ResponseCode.SERVER_BUSY);
+        }
+
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(task, contextExecutor);
+        } catch (RejectedExecutionException e) {
+            semaphore.release();
+            rejectedCounters.get(workload).increment();
+            throw new CustomException(ResponseCode.SERVER_BUSY);
+        }
+        // 응답 시간 초과로 요청이 먼저 끝나도 작업이 끝날 때까지 한도를 차지 (실제로 스레드를 쓰고 있으므로)
+        future.whenComplete((result, ex) -> semaphore.release());
+        return future;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+}
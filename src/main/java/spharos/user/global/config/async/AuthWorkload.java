@@ -0,0 +1,18 @@
+package spharos.user.global.config.async;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 비동기로 처리하는 인증 API 분류 (분류별로 동시 처리 수를 제한)
+@Getter
+@AllArgsConstructor
+public enum AuthWorkload {
+
+    LOGIN("login"),                     // 로그인
+    JOIN("join"),                       // 회원가입
+    PASSWORD_CHANGE("password-change"), // 비밀번호 변경
+    PASSWORD_CHECK("password-check");   // 마이페이지 비밀번호 확인, 탈퇴 전 회원확인
+
+    private final String key;
+
+}
@@ -0,0 +1,55 @@
+package spharos.user.global.config.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+
+/*
+    Hibernate 2차 캐시 설정 (entity-cache.enabled=true)
+    - 캐시 대상은 엔티티의 @Cache, @NaturalIdCache 로 지정 (User, Address, User 이메일)
+ */
+@Configuration
+@ConditionalOnProperty(name = "entity-cache.enabled", havingValue = "true")
+public class EntityCacheConfig {
+
+    @Bean
+    public EntityCacheRegionFactory entityCacheRegionFactory(
+            @Qualifier("entityCacheRedisTemplate") ObjectProvider<RedisTemplate<String, Object>> entityCacheRedisTemplate,
+            StringRedisTemplate stringRedisTemplate,
+            RedisMessageListenerContainer redisMessageListenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${entity-cache.redis.enabled}") boolean redisEnabled,
+            @Value("${entity-cache.local.maximum-size}") long localMaximumSize,
+            @Value("${entity-cache.local.ttl}") Duration localTtl,
+            @Value("${entity-cache.ttl}") Duration ttl,
+            @Value("${entity-cache.put-block-window}") Duration putBlockWindow) {
+
+        EntityCacheRegionFactory regionFactory = new EntityCacheRegionFactory(
+                redisEnabled ? entityCacheRedisTemplate.getObject() : null, stringRedisTemplate, meterRegistry,
+                localMaximumSize, localTtl, ttl, putBlockWindow);
+        redisMessageListenerContainer.addMessageListener(regionFactory, EntityCacheRegionFactory.TOPIC);
+        return regionFactory;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheHibernatePropertiesCustomizer(
+            EntityCacheRegionFactory entityCacheRegionFactory) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, false);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, entityCacheRegionFactory);
+        };
+    }
+
+}
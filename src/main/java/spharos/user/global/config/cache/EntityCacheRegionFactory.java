@@ -0,0 +1,115 @@
+package spharos.user.global.config.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.internal.SimpleCacheKeysFactory;
+import org.hibernate.cache.spi.CacheKeysFactory;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+    Hibernate 2차 캐시 RegionFactory (로컬 Caffeine + Redis 2단 구성)
+    - 영역(region)마다 로컬 캐시를 두고 로컬 -> Redis -> DB 순서로 조회
+    - 엔티티는 NONSTRICT_READ_WRITE 로 캐시하므로 변경/삭제시 커밋 후 두 단계에서 제거되고, pub/sub 채널로 다른 인스턴스의 로컬 캐시도 제거
+    - 쿼리 캐시는 지원하지 않음 (이메일 조회는 natural id 캐시로 처리)
+    - entity-cache.redis.enabled 가 false 이면 로컬 캐시만 사용 (무효화 메시지는 그대로 발행)
+ */
+public class EntityCacheRegionFactory extends RegionFactoryTemplate implements MessageListener {
+
+    static final ChannelTopic TOPIC = new ChannelTopic("user-service:entity-cache:invalidate");
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final long localMaximumSize;
+    private final Duration localTtl;
+    private final Duration ttl;
+    private final Duration putBlockWindow;
+    private final Map<String, EntityCacheStorage> storages = new ConcurrentHashMap<>();
+
+    public EntityCacheRegionFactory(RedisTemplate<String, Object> redisTemplate,
+                                    StringRedisTemplate stringRedisTemplate,
+                                    MeterRegistry meterRegistry,
+                                    long localMaximumSize,
+                                    Duration localTtl,
+                                    Duration ttl,
+                                    Duration putBlockWindow) {
+        this.redisTemplate = redisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.localMaximumSize = localMaximumSize;
+        this.localTtl = localTtl;
+        this.ttl = ttl;
+        this.putBlockWindow = putBlockWindow;
+    }
+
+    // 캐시 키를 엔티티 id, natural id 값 그대로 사용 (Redis 키로 쓰기 위해)
+    @Override
+    protected CacheKeysFactory getImplicitCacheKeysFactory() {
+        return SimpleCacheKeysFactory.INSTANCE;
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(DomainDataRegionConfig regionConfig,
+                                                                    DomainDataRegionBuildingContext buildingContext) {
+        EntityCacheStorage storage = new EntityCacheStorage(regionConfig.getRegionName(), redisTemplate,
+                stringRedisTemplate, meterRegistry, localMaximumSize, localTtl, ttl, putBlockWindow);
+        storages.put(regionConfig.getRegionName(), storage);
+        return storage;
+    }
+
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(String regionName,
+                                                                  SessionFactoryImplementor sessionFactory) {
+        throw new CacheException("query cache is not supported. region=" + regionName);
+    }
+
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(String regionName,
+                                                                SessionFactoryImplementor sessionFactory) {
+        throw new CacheException("query cache is not supported. region=" + regionName);
+    }
+
+    @Override
+    protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+    }
+
+    @Override
+    protected void releaseFromUse() {
+        storages.values().forEach(EntityCacheStorage::release);
+        storages.clear();
+    }
+
+    // 다른 인스턴스에서 발행한 무효화 메시지 수신 ("영역\t키" 는 키 하나, "영역" 은 영역 전체)
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf('\t');
+        EntityCacheStorage storage = storages.get(separator < 0 ? body : body.substring(0, separator));
+        if (storage == null) {
+            return;
+        }
+
+        if (separator < 0) {
+            storage.clearLocal();
+        } else {
+            storage.evictLocal(body.substring(separator + 1));
+        }
+    }
+
+}
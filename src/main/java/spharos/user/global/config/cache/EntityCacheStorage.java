@@ -0,0 +1,210 @@
+package spharos.user.global.config.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Version;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.time.Duration;
+
+/*
+    2차 캐시 영역 하나의 저장소
+    - 제거된 키는 put-block-window 동안 다시 저장하지 않음 (지연된 복제본이나 진행 중이던 트랜잭션에서 읽은 이전 값이 캐시되는 것을 막음)
+    - 영역 전체 제거(엔티티 대량 UPDATE 등)는 Redis 의 영역 epoch 를 올려 이전 키를 한 번에 무효화 (이전 키는 TTL 로 만료)
+    - Redis 장애시에는 로컬 캐시와 DB 로 대체
+    - Redis 에는 Hibernate 캐시 엔트리를 JDK 직렬화로 저장하며, 엔트리 클래스는 Hibernate 소유라 serialVersionUID 를 둘 수 없으므로
+      키에 저장 형식 버전과 Hibernate 버전을 붙여 다른 배포가 저장한 엔트리를 읽지 않음 (읽지 못한 엔트리는 제거 후 미스로 처리)
+    - 적중률은 로컬 cache.gets{cache=entity.<영역>}, Redis entity.cache.redis{region, result} 로 확인
+ */
+@Slf4j
+public class EntityCacheStorage implements DomainDataStorageAccess {
+
+    // 캐시 대상 엔티티(User, Address)의 필드를 추가/삭제/순서 변경하면 올림 (분해된 필드 배열의 형태가 바뀜)
+    static final int FORMAT_VERSION = 1;
+    private static final String KEY_PREFIX =
+            "user-service:entity-cache:v" + FORMAT_VERSION + ":" + Version.getVersionString() + ":";
+
+    private final String region;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration ttl;
+    private final Cache<String, Object> localCache;
+    private final Cache<String, Boolean> recentlyEvicted;
+    private final Counter redisHitCounter;
+    private final Counter redisMissCounter;
+    private volatile long epoch;
+
+    public EntityCacheStorage(String region,
+                              RedisTemplate<String, Object> redisTemplate,
+                              StringRedisTemplate stringRedisTemplate,
+                              MeterRegistry meterRegistry,
+                              long localMaximumSize,
+                              Duration localTtl,
+                              Duration ttl,
+                              Duration putBlockWindow) {
+        this.region = region;
+        this.redisTemplate = redisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.ttl = ttl;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .build();
+        this.recentlyEvicted = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(putBlockWindow)
+                .build();
+        this.redisHitCounter = meterRegistry.counter("entity.cache.redis", "region", region, "result", "hit");
+        this.redisMissCounter = meterRegistry.counter("entity.cache.redis", "region", region, "result", "miss");
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "entity." + region);
+        this.epoch = loadEpoch();
+    }
+
+    @Override
+    public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+        String cacheKey = String.valueOf(key);
+        Object value = localCache.getIfPresent(cacheKey);
+        if (value != null || redisTemplate == null) {
+            return value;
+        }
+
+        try {
+            value = redisTemplate.opsForValue().get(redisKey(cacheKey));
+        } catch (SerializationException e) {
+            log.warn("entity cache entry unreadable. region={}, key={}", region, cacheKey, e);
+            deleteQuietly(redisKey(cacheKey));
+            redisMissCounter.increment();
+            return null;
+        } catch (RuntimeException e) {
+            log.warn("entity cache read failed. region={}, key={}", region, cacheKey, e);
+            return null;
+        }
+
+        if (value == null) {
+            redisMissCounter.increment();
+            return null;
+        }
+        redisHitCounter.increment();
+        localCache.put(cacheKey, value);
+        return value;
+    }
+
+    // DB 에서 읽은 값 저장 (NONSTRICT_READ_WRITE 는 변경시 저장하지 않고 제거만 함)
+    @Override
+    public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+        String cacheKey = String.valueOf(key);
+        if (recentlyEvicted.getIfPresent(cacheKey) != null) {
+            return;
+        }
+
+        localCache.put(cacheKey, value);
+        if (redisTemplate == null) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(redisKey(cacheKey), value, ttl);
+        } catch (RuntimeException e) {
+            log.warn("entity cache write failed. region={}, key={}", region, cacheKey, e);
+        }
+    }
+
+    @Override
+    public boolean contains(Object key) {
+        String cacheKey = String.valueOf(key);
+        if (localCache.getIfPresent(cacheKey) != null) {
+            return true;
+        }
+        try {
+            return redisTemplate != null && Boolean.TRUE.equals(redisTemplate.hasKey(redisKey(cacheKey)));
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    // 키 하나 제거 - 로컬, Redis 에서 제거하고 다른 인스턴스에 알림
+    @Override
+    public void evictData(Object key) {
+        String cacheKey = String.valueOf(key);
+        evictLocal(cacheKey);
+
+        try {
+            if (redisTemplate != null) {
+                redisTemplate.delete(redisKey(cacheKey));
+            }
+            stringRedisTemplate.convertAndSend(EntityCacheRegionFactory.TOPIC.getTopic(), region + "\t" + cacheKey);
+        } catch (RuntimeException e) {
+            log.warn("entity cache invalidation failed. region={}, key={}", region, cacheKey, e);
+        }
+    }
+
+    // 영역 전체 제거 - epoch 를 올려 Redis 의 이전 키를 무효화하고 다른 인스턴스에 알림
+    @Override
+    public void evictData() {
+        localCache.invalidateAll();
+
+        try {
+            if (redisTemplate != null) {
+                Long next = stringRedisTemplate.opsForValue().increment(epochKey());
+                epoch = next == null ? epoch + 1 : next;
+            }
+            stringRedisTemplate.convertAndSend(EntityCacheRegionFactory.TOPIC.getTopic(), region);
+        } catch (RuntimeException e) {
+            log.warn("entity cache region invalidation failed. region={}", region, e);
+        }
+    }
+
+    @Override
+    public void release() {
+        localCache.invalidateAll();
+    }
+
+    // 로컬 캐시에서만 제거 (다른 인스턴스의 무효화 메시지 수신시)
+    void evictLocal(String cacheKey) {
+        recentlyEvicted.put(cacheKey, Boolean.TRUE);
+        localCache.invalidate(cacheKey);
+    }
+
+    void clearLocal() {
+        localCache.invalidateAll();
+        epoch = loadEpoch();
+    }
+
+    private long loadEpoch() {
+        if (redisTemplate == null) {
+            return 0L;
+        }
+        try {
+            String value = stringRedisTemplate.opsForValue().get(epochKey());
+            return value == null ? 0L : Long.parseLong(value);
+        } catch (RuntimeException e) {
+            log.warn("entity cache epoch read failed. region={}", region, e);
+            return epoch;
+        }
+    }
+
+    private void deleteQuietly(String redisKey) {
+        try {
+            redisTemplate.delete(redisKey);
+        } catch (RuntimeException e) {
+            log.warn("entity cache delete failed. key={}", redisKey, e);
+        }
+    }
+
+    private String redisKey(String cacheKey) {
+        return KEY_PREFIX + region + ":" + epoch + ":" + cacheKey;
+    }
+
+    private String epochKey() {
+        return KEY_PREFIX + region + ":epoch";
+    }
+
+}
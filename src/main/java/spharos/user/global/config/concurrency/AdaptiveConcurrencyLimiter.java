@@ -0,0 +1,120 @@
+package spharos.user.global.config.concurrency;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+    지연시간 기울기(gradient) 기반 동시 처리 한도
+    - 경로별로 최근 지연시간(짧은 EWMA)과 기준 지연시간(긴 EWMA)을 기록하고, 요청이 끝날 때마다
+      한도 = 한도 * min(1, tolerance * 기준 / 최근) + sqrt(한도) 를 smoothing 비율로 반영
+      -> DB 가 느려져 최근 지연시간이 기준보다 커지면 한도가 줄고, 회복되면 sqrt(한도)씩 다시 늘어남
+    - 경로마다 기준을 따로 두므로 원래 느린 API(로그인의 해시 등)가 과부하로 오인되지 않음
+    - 우선순위별로 한도의 일부만 쓰게 해 ANONYMOUS 가 먼저, CRITICAL 이 마지막에 거절됨
+    - 실패(5xx) 응답, 경로가 없는(매핑되지 않은) 요청은 지연시간으로 반영하지 않음 (빠르게 실패한 요청이 한도를 늘리지 않도록)
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    static final String OTHER_ROUTE = "other";
+
+    private static final double SHORT_ALPHA = 2.0 / (10 + 1);
+    private static final double LONG_ALPHA = 2.0 / (600 + 1);
+    private static final int MAX_ROUTES = 256;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double tolerance;
+    private final Map<RequestPriority, Double> shares = new EnumMap<>(RequestPriority.class);
+    private final Map<String, RouteLatency> routes = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double smoothing, double tolerance,
+                                      double authenticatedShare, double anonymousShare) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.tolerance = tolerance;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        shares.put(RequestPriority.CRITICAL, 1.0);
+        shares.put(RequestPriority.AUTHENTICATED, authenticatedShare);
+        shares.put(RequestPriority.ANONYMOUS, anonymousShare);
+    }
+
+    // 우선순위에 허용된 한도 안이면 처리 중 개수를 올리고 true (끝나면 반드시 release)
+    public boolean tryAcquire(RequestPriority priority) {
+        int allowed = Math.max(1, (int) (limit * shares.get(priority)));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    // 요청 종료 - 성공한 요청의 지연시간으로 한도 조정 (route 가 null 이면 처리 중 개수만 내림)
+    public void release(String route, long latencyNanos, boolean success) {
+        int current = inFlight.getAndDecrement();
+        if (!success || route == null) {
+            return;
+        }
+
+        RouteLatency latency = routes.get(route);
+        if (latency == null) {
+            latency = routes.size() < MAX_ROUTES ? routes.computeIfAbsent(route, key -> new RouteLatency())
+                    : routes.computeIfAbsent(OTHER_ROUTE, key -> new RouteLatency());
+        }
+        double gradient = latency.record(latencyNanos, tolerance);
+
+        synchronized (this) {
+            double newLimit = limit * gradient + Math.sqrt(limit);
+            // 한도의 절반도 쓰지 않고 있으면 늘리지 않음 (한가할 때 한도가 끝없이 커지지 않도록)
+            if (newLimit > limit && current < limit / 2) {
+                return;
+            }
+            limit = Math.max(minLimit, Math.min(maxLimit, (1 - smoothing) * limit + smoothing * newLimit));
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public int getRouteCount() {
+        return routes.size();
+    }
+
+    // 경로별 지연시간 (짧은 EWMA 는 최근 10건, 긴 EWMA 는 최근 600건 정도를 반영)
+    private static class RouteLatency {
+
+        private double shortRtt;
+        private double longRtt;
+
+        private synchronized double record(long latencyNanos, double tolerance) {
+            if (longRtt == 0) {
+                shortRtt = latencyNanos;
+                longRtt = latencyNanos;
+                return 1.0;
+            }
+
+            shortRtt += SHORT_ALPHA * (latencyNanos - shortRtt);
+            longRtt += LONG_ALPHA * (latencyNanos - longRtt);
+            // 지연이 오래 지속되면 기준도 따라 올라가므로, 최근 값의 두 배를 넘게 벌어진 기준은 빠르게 내림 (회복 후 한도가 다시 늘도록)
+            if (longRtt > shortRtt * 2) {
+                longRtt *= 0.95;
+            }
+            return Math.max(0.5, Math.min(1.0, tolerance * longRtt / shortRtt));
+        }
+
+    }
+
+}
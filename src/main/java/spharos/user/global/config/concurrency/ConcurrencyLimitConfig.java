@@ -0,0 +1,51 @@
+package spharos.user.global.config.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/*
+    웹 계층 동시 처리 한도 설정 (concurrency-limit.enabled=true)
+    - 필터는 Spring Security 필터 체인보다 앞에 등록 (거절할 요청은 토큰 검증도 하지 않음)
+ */
+@Configuration
+@ConditionalOnProperty(name = "concurrency-limit.enabled", havingValue = "true")
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter(
+            @Value("${concurrency-limit.initial-limit}") int initialLimit,
+            @Value("${concurrency-limit.min-limit}") int minLimit,
+            @Value("${concurrency-limit.max-limit}") int maxLimit,
+            @Value("${concurrency-limit.smoothing}") double smoothing,
+            @Value("${concurrency-limit.tolerance}") double tolerance,
+            @Value("${concurrency-limit.authenticated-share}") double authenticatedShare,
+            @Value("${concurrency-limit.anonymous-share}") double anonymousShare) {
+        return new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, smoothing, tolerance,
+                authenticatedShare, anonymousShare);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+            AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${server-busy.retry-after}") Duration retryAfter) {
+
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(adaptiveConcurrencyLimiter, objectMapper,
+                String.valueOf(Math.max(1L, retryAfter.toSeconds())), meterRegistry);
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 10);
+        registration.setDispatcherTypes(DispatcherType.REQUEST);
+        return registration;
+    }
+
+}
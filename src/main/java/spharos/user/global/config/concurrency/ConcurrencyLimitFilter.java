@@ -0,0 +1,158 @@
+package spharos.user.global.config.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import spharos.user.global.common.response.ErrorResponse;
+import spharos.user.global.common.response.ResponseCode;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+
+/*
+    웹 계층 동시 처리 한도 필터 (Spring Security 필터보다 먼저 실행)
+    - 한도를 넘은 요청은 토큰 검증, 컨트롤러 실행 없이 바로 503 + Retry-After (Tomcat 안에 쌓이지 않음)
+    - 우선순위는 경로와 Authorization 헤더 유무로만 판단 (토큰 검증은 이후 JWT 필터에서)
+      - 인증 없이 호출하는 중복 확인 API 는 헤더를 붙여도 ANONYMOUS (아무 토큰이나 붙여 우선순위를 올리지 못하게)
+    - 지연시간은 컨트롤러에 매핑된 경로 패턴별로 기록하고, 매핑되지 않은 요청(404 등)은 기록하지 않음
+    - 비동기 API(CompletableFuture 반환)는 응답이 끝날 때 처리 중 개수를 반환
+    - actuator, 헬스체크 경로는 제한하지 않음
+    - 한도는 web.concurrency.limit, 처리 중 개수는 web.concurrency.inflight, 거절 수는 web.concurrency.shed{priority},
+      지연시간을 기록 중인 경로 수는 web.concurrency.routes 로 확인
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final Set<String> CRITICAL_PATHS = Set.of(
+            "/api/v1/users/login",
+            "/api/v1/users/join",
+            "/api/v1/users/token/refresh");
+    private static final Set<String> ANONYMOUS_PATHS = Set.of(
+            "/api/v1/users/email/check",
+            "/api/v1/users/email/exist/check",
+            "/api/v1/users/nickname/check");
+    private static final Set<String> UNLIMITED_PATHS = Set.of(
+            "/api/v1/users/test",
+            "/api/v1/users/jenkins");
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final ObjectMapper objectMapper;
+    private final String retryAfterSeconds;
+    private final Map<RequestPriority, Counter> shedCounters = new EnumMap<>(RequestPriority.class);
+
+    public ConcurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter, ObjectMapper objectMapper,
+                                  String retryAfterSeconds, MeterRegistry meterRegistry) {
+        this.limiter = limiter;
+        this.objectMapper = objectMapper;
+        this.retryAfterSeconds = retryAfterSeconds;
+        for (RequestPriority priority : RequestPriority.values()) {
+            shedCounters.put(priority, meterRegistry.counter("web.concurrency.shed",
+                    "priority", priority.name().toLowerCase()));
+        }
+        meterRegistry.gauge("web.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit);
+        meterRegistry.gauge("web.concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::getInFlight);
+        meterRegistry.gauge("web.concurrency.routes", limiter, AdaptiveConcurrencyLimiter::getRouteCount);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return path.startsWith("/actuator") || UNLIMITED_PATHS.contains(path);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        RequestPriority priority = priorityOf(request);
+        if (!limiter.tryAcquire(priority)) {
+            shedCounters.get(priority).increment();
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+            ErrorResponse.write(response, objectMapper, ResponseCode.SERVER_BUSY);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseListener(routeOf(request), response, start));
+                return;
+            }
+            completed = true;
+        } finally {
+            if (!request.isAsyncStarted()) {
+                limiter.release(routeOf(request), System.nanoTime() - start,
+                        completed && response.getStatus() < 500);
+            }
+        }
+    }
+
+    private RequestPriority priorityOf(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        if (CRITICAL_PATHS.contains(path)) {
+            return RequestPriority.CRITICAL;
+        }
+        if (ANONYMOUS_PATHS.contains(path)) {
+            return RequestPriority.ANONYMOUS;
+        }
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        return authorization != null && authorization.startsWith(BEARER_PREFIX)
+                ? RequestPriority.AUTHENTICATED : RequestPriority.ANONYMOUS;
+    }
+
+    // 컨트롤러에 매핑된 경로 패턴 (매핑되지 않았으면 null 이며 지연시간을 기록하지 않음)
+    private String routeOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? null : request.getMethod() + " " + pattern;
+    }
+
+    // 비동기 응답 완료시 반환 (시간 초과, 에러도 마지막에 onComplete 가 호출됨)
+    private class ReleaseListener implements AsyncListener {
+
+        private final String route;
+        private final HttpServletResponse response;
+        private final long start;
+        private volatile boolean failed;
+
+        private ReleaseListener(String route, HttpServletResponse response, long start) {
+            this.route = route;
+            this.response = response;
+            this.start = start;
+        }
+
+        // startAsync() 로 시작하면 이벤트에 응답이 없을 수 있으므로 필터가 받은 응답의 상태 사용
+        @Override
+        public void onComplete(AsyncEvent event) {
+            limiter.release(route, System.nanoTime() - start, !failed && response.getStatus() < 500);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            failed = true;
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            failed = true;
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+
+    }
+
+}
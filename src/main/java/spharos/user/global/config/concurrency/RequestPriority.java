@@ -0,0 +1,10 @@
+package spharos.user.global.config.concurrency;
+
+// 과부하시 먼저 거절되는 순서 (ANONYMOUS -> AUTHENTICATED -> CRITICAL)
+public enum RequestPriority {
+
+    CRITICAL,       // 로그인, 회원가입, 토큰 재발급
+    AUTHENTICATED,  // Bearer 토큰이 있는 요청
+    ANONYMOUS       // 이메일/닉네임 중복 체크 등 인증 없는 조회
+
+}
@@ -0,0 +1,107 @@
+package spharos.user.global.config.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/*
+    커넥션 풀 하나의 DB 커넥션 동시 사용 수 제한 (가상 스레드 실행시)
+    - 스레드 수로 DB 작업이 제한되지 않으므로, 커넥션을 얻기 전에 permit 을 받고 커넥션을 닫을 때 반환
+    - permit 수는 감싼 커넥션 풀의 최대 크기에 맞춤 -> 풀 대기열에 수천 개의 요청이 쌓여 connectionTimeout 으로 한꺼번에 실패하지 않고 공정하게 순서대로 대기
+    - MySQL 드라이버의 synchronized 구간에서 가상 스레드가 캐리어 스레드에 고정(pinning)되는 수도 permit 수로 제한됨
+    - 대기 시간은 db.permits.wait{pool}, 사용 중인 permit 수는 db.permits.active{pool} 로 확인
+ */
+public class ConnectionPermitDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final Duration timeout;
+    private final Timer waitTimer;
+
+    public ConnectionPermitDataSource(DataSource targetDataSource, String pool, int permits, Duration timeout,
+                                      MeterRegistry meterRegistry) {
+        super(targetDataSource);
+        this.permits = new Semaphore(permits, true);
+        this.timeout = timeout;
+        this.waitTimer = Timer.builder("db.permits.wait")
+                .tag("pool", pool)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("db.permits.active", this.permits, semaphore -> permits - semaphore.availablePermits())
+                .tag("pool", pool)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return withPermit(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return withPermit(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void acquire() throws SQLException {
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException(
+                        "connection permit not available, request timed out after " + timeout.toMillis() + "ms.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("interrupted while waiting for connection permit", e);
+        } finally {
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // close() 를 처음 호출할 때 permit 반환 (여러 번 닫아도 한 번만)
+    private Connection withPermit(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] { Connection.class },
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                permits.release();
+                            }
+                        }
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+}
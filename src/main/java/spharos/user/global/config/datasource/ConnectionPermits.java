@@ -0,0 +1,36 @@
+package spharos.user.global.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/*
+    커넥션 풀마다 DB 동시 사용 permit 적용 (가상 스레드 실행시)
+    - 라우팅으로 고른 풀의 커넥션을 얻기 전에 그 풀의 permit 을 받으므로, primary, 복제본, 샤드가 각자 자기 풀 크기만큼 동시에 사용
+    - permit 수는 db-permits (0 이면 풀 최대 크기), 대기 시간은 풀의 connectionTimeout
+    - 사용하지 않으면 풀을 그대로 반환
+ */
+public class ConnectionPermits {
+
+    private final boolean enabled;
+    private final int permits;
+    private final MeterRegistry meterRegistry;
+
+    public ConnectionPermits(boolean enabled, int permits, MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.permits = permits;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public DataSource wrap(HikariDataSource pool) {
+        if (!enabled) {
+            return pool;
+        }
+        return new ConnectionPermitDataSource(pool, pool.getPoolName(),
+                permits > 0 ? Math.min(permits, pool.getMaximumPoolSize()) : pool.getMaximumPoolSize(),
+                Duration.ofMillis(pool.getConnectionTimeout()), meterRegistry);
+    }
+
+}
@@ -0,0 +1,89 @@
+package spharos.user.global.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import spharos.user.global.config.shard.ShardRoutingDataSource;
+import spharos.user.global.config.thread.VirtualThreads;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+    primary + 읽기 전용 복제본 DataSource 구성
+    - primary 는 spring.datasource.*, 복제본은 primary 풀 설정을 복사한 뒤 URL 만 datasource-routing.replica-urls 로 바꿈
+    - 커넥션 풀 수치는 풀마다 hikaricp.*{pool=primary|replica-N} 로 확인
+    - 복제본이 없으면 모든 트랜잭션이 primary 로 감
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties, MeterRegistry meterRegistry) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+        primary.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return primary;
+    }
+
+    // 가상 스레드 실행시 DB 동시 사용을 스레드 수가 아닌 풀마다의 permit 으로 제한
+    @Bean
+    public ConnectionPermits connectionPermits(MeterRegistry meterRegistry,
+                                               @Value("${virtual-threads.enabled}") boolean virtualThreads,
+                                               @Value("${virtual-threads.db-permits}") int dbPermits) {
+        return new ConnectionPermits(virtualThreads && VirtualThreads.isSupported(), dbPermits, meterRegistry);
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource routingDataSource(HikariDataSource primaryDataSource,
+                                                      ReadYourWritesTracker readYourWritesTracker,
+                                                      ConnectionPermits connectionPermits,
+                                                      MeterRegistry meterRegistry,
+                                                      @Value("${datasource-routing.replica-urls}") List<String> replicaUrls,
+                                                      @Value("${datasource-routing.max-lag}") Duration maxLag) {
+
+        List<ReplicaRoutingDataSource.Replica> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            if (url.isBlank()) {
+                continue;
+            }
+
+            // 풀 크기, 타임아웃, 드라이버 속성 등은 primary 와 동일 (첫 커넥션 요청시 풀 생성)
+            HikariDataSource replica = new HikariDataSource();
+            primaryDataSource.copyStateTo(replica);
+            replica.setJdbcUrl(url.trim());
+            replica.setPoolName("replica-" + replicas.size());
+            replica.setReadOnly(true);
+            replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.add(new ReplicaRoutingDataSource.Replica(replica.getPoolName(), replica));
+        }
+
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, readYourWritesTracker, maxLag,
+                connectionPermits, meterRegistry);
+    }
+
+    // JPA, Flyway 등이 사용하는 DataSource - 실제 커넥션은 트랜잭션의 readOnly, 샤드가 정해진 뒤 첫 쿼리에서 얻음
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routingDataSource,
+                                 ObjectProvider<ShardRoutingDataSource> shardRoutingDataSource) {
+        // 샤딩을 사용하면 샤드 라우팅 아래에 샤드별 읽기/쓰기 라우팅이 있음
+        DataSource target = shardRoutingDataSource.getIfAvailable();
+        if (target == null) {
+            target = routingDataSource;
+        }
+        return new LazyConnectionDataSourceProxy(target);
+    }
+
+}
@@ -0,0 +1,99 @@
+package spharos.user.global.config.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import spharos.user.global.config.security.AuthUser;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/*
+    read-your-writes 보장용 유저별 primary 고정
+    - 인증된 유저의 쓰기 트랜잭션이 커밋되면 sticky-window 동안 그 유저의 읽기 전용 트랜잭션도 primary 로 보냄
+    - 다음 요청이 다른 인스턴스로 갈 수 있으므로 pub/sub 채널로 다른 인스턴스에도 알림
+    - sticky-window 는 복제본 허용 지연(max-lag) + 지연 확인 주기보다 길어야 함
+ */
+@Slf4j
+@Component
+public class ReadYourWritesTracker implements MessageListener {
+
+    private static final ChannelTopic TOPIC = new ChannelTopic("user-service:datasource:written");
+
+    private final Cache<Long, Boolean> writtenUsers;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    public ReadYourWritesTracker(@Value("${datasource-routing.sticky-window}") Duration stickyWindow,
+                                 StringRedisTemplate stringRedisTemplate,
+                                 RedisMessageListenerContainer redisMessageListenerContainer) {
+        this.writtenUsers = Caffeine.newBuilder()
+                .expireAfterWrite(stickyWindow)
+                .build();
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, TOPIC);
+    }
+
+    // 현재 요청의 유저가 최근에 쓰기를 커밋했는지 여부
+    public boolean isSticky() {
+        Long userId = currentUserId();
+        return userId != null && writtenUsers.getIfPresent(userId) != null;
+    }
+
+    // 쓰기 트랜잭션이 커넥션을 얻을 때 호출 - 커밋되면 현재 유저를 primary 로 고정
+    public void registerWrite() {
+        Long userId = currentUserId();
+        if (userId == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                markWritten(userId);
+            }
+        });
+    }
+
+    // 유저를 primary 로 고정하고 다른 인스턴스에 알림
+    public void markWritten(Long userId) {
+        writtenUsers.put(userId, Boolean.TRUE);
+        try {
+            stringRedisTemplate.convertAndSend(TOPIC.getTopic(), String.valueOf(userId));
+        } catch (RuntimeException e) {
+            log.warn("read-your-writes broadcast failed. userId={}", userId, e);
+        }
+    }
+
+    // 다른 인스턴스에서 발행한 쓰기 알림 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        writtenUsers.put(Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8)), Boolean.TRUE);
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthUser authUser) {
+            return authUser.getUserId();
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,75 @@
+package spharos.user.global.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/*
+    복제본 지연 확인 작업
+    - lag-query 결과의 Seconds_Behind_Source 컬럼(없으면 첫 번째 컬럼)을 지연 초로 사용
+    - 결과가 없거나 null(복제 중단) 또는 조회 실패시 해당 복제본은 다음 확인까지 사용하지 않음
+ */
+@Slf4j
+@Component
+public class ReplicaLagMonitor {
+
+    private static final String LAG_COLUMN = "Seconds_Behind_Source";
+
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final String lagQuery;
+    private final Duration maxLag;
+
+    public ReplicaLagMonitor(ReplicaRoutingDataSource routingDataSource,
+                             @Value("${datasource-routing.lag-query}") String lagQuery,
+                             @Value("${datasource-routing.max-lag}") Duration maxLag) {
+        this.routingDataSource = routingDataSource;
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource-routing.lag-check-interval-ms}")
+    public void checkLag() {
+        for (ReplicaRoutingDataSource.Replica replica : routingDataSource.getReplicas()) {
+            boolean wasAvailable = replica.isAvailable(maxLag);
+            replica.updateLag(queryLag(replica));
+
+            // 상태가 바뀐 경우에만 기록
+            if (wasAvailable != replica.isAvailable(maxLag)) {
+                log.warn("replica {} {}. lag={}", replica.getName(),
+                        wasAvailable ? "excluded" : "included", replica.getLag());
+            }
+        }
+    }
+
+    private Duration queryLag(ReplicaRoutingDataSource.Replica replica) {
+        try (Connection connection = replica.getDataSource().getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+
+            if (!resultSet.next()) {
+                return null;
+            }
+            long seconds = resultSet.getLong(lagColumn(resultSet));
+            return resultSet.wasNull() ? null : Duration.ofSeconds(seconds);
+        } catch (SQLException e) {
+            log.debug("replica lag check failed. replica={}", replica.getName(), e);
+            return null;
+        }
+    }
+
+    private int lagColumn(ResultSet resultSet) {
+        try {
+            return resultSet.findColumn(LAG_COLUMN);
+        } catch (SQLException e) {
+            return 1;
+        }
+    }
+
+}
@@ -0,0 +1,142 @@
+package spharos.user.global.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+    읽기/쓰기 라우팅 DataSource
+    - 쓰기 트랜잭션, 트랜잭션 밖의 조회는 primary 로 보냄
+    - 읽기 전용 트랜잭션은 지연이 max-lag 이내인 복제본에 라운드로빈으로 보내고, 쓸 수 있는 복제본이 없으면 primary 로 보냄
+    - 최근에 쓰기를 커밋한 유저의 읽기 전용 트랜잭션은 primary 로 보냄 (ReadYourWritesTracker)
+    - 트랜잭션 속성이 정해진 뒤 커넥션을 얻어야 하므로 LazyConnectionDataSourceProxy 로 감싸서 사용
+    - 가상 스레드 실행시 primary, 복제본 풀마다 커넥션 permit 을 적용 (ConnectionPermits)
+    - 라우팅 결과는 datasource.routing{pool, reason} 로 확인
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    public static final String PRIMARY = "primary";
+
+    private final String primaryPool;
+    @Getter
+    private final List<Replica> replicas;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final Duration maxLag;
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final Map<String, Counter> routeCounters = new ConcurrentHashMap<>();
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, List<Replica> replicas,
+                                    ReadYourWritesTracker readYourWritesTracker, Duration maxLag,
+                                    ConnectionPermits connectionPermits, MeterRegistry meterRegistry) {
+        this.primaryPool = primary.getPoolName();
+        this.replicas = List.copyOf(replicas);
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.maxLag = maxLag;
+        this.meterRegistry = meterRegistry;
+
+        DataSource primaryTarget = connectionPermits.wrap(primary);
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primaryTarget);
+        for (Replica replica : this.replicas) {
+            targets.put(replica.getName(), connectionPermits.wrap(replica.getDataSource()));
+            // 복제본 지연 (확인 실패 또는 복제 중단시 NaN)
+            Gauge.builder("datasource.replica.lag", replica, Replica::getLagSeconds)
+                    .tag("pool", replica.getName())
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primaryTarget);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readYourWritesTracker.registerWrite();
+            return route(PRIMARY, "read-write");
+        }
+
+        if (replicas.isEmpty()) {
+            return route(PRIMARY, "no-replica");
+        }
+
+        if (readYourWritesTracker.isSticky()) {
+            return route(PRIMARY, "read-your-writes");
+        }
+
+        // 다음 순서부터 지연이 허용 범위 이내인 복제본을 찾음
+        int start = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (replica.isAvailable(maxLag)) {
+                return route(replica.getName(), "read-only");
+            }
+        }
+        return route(PRIMARY, "replica-lag");
+    }
+
+    private String route(String target, String reason) {
+        String pool = PRIMARY.equals(target) ? primaryPool : target;
+        routeCounters.computeIfAbsent(pool + ":" + reason, key -> Counter.builder("datasource.routing")
+                        .tag("pool", pool)
+                        .tag("reason", reason)
+                        .register(meterRegistry))
+                .increment();
+        return target;
+    }
+
+    // 복제본 커넥션 풀 종료 (primary 는 빈으로 등록되어 따로 종료됨)
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.getDataSource().close());
+    }
+
+    /*
+        복제본 커넥션 풀과 마지막으로 확인한 복제 지연
+        - 지연을 아직 확인하지 못했거나 확인에 실패한 경우 lag 은 null 이며 사용하지 않음
+     */
+    @Getter
+    public static class Replica {
+
+        private final String name;
+        private final HikariDataSource dataSource;
+        private volatile Duration lag;
+
+        public Replica(String name, HikariDataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public void updateLag(Duration lag) {
+            this.lag = lag;
+        }
+
+        public boolean isAvailable(Duration maxLag) {
+            Duration current = lag;
+            return current != null && current.compareTo(maxLag) <= 0;
+        }
+
+        private double getLagSeconds() {
+            Duration current = lag;
+            return current == null ? Double.NaN : current.toMillis() / 1000.0;
+        }
+
+    }
+
+}
@@ -6,7 +6,15 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import spharos.user.address.infrastructure.AddressListSerializer;
+import spharos.user.address.vo.AddressListForSearchResponse;
+import spharos.user.users.domain.RefreshTokenState;
+import spharos.user.users.infrastructure.RefreshTokenStateSerializer;
+
+import java.util.List;
 
 @Configuration
 public class RedisConfig {
@@ -36,4 +44,47 @@ public class RedisConfig {
         return redisTemplate;
     }
 
+    // 리프레시 토큰 상태는 토큰 원문 대신 digest 를 담은 고정 크기 바이너리로 저장
+    @Bean
+    public RedisTemplate<String, RefreshTokenState> refreshTokenRedisTemplate() {
+        RedisTemplate<String, RefreshTokenState> refreshTokenRedisTemplate = new RedisTemplate<>();
+        refreshTokenRedisTemplate.setKeySerializer(new StringRedisSerializer());
+        refreshTokenRedisTemplate.setValueSerializer(new RefreshTokenStateSerializer());
+        refreshTokenRedisTemplate.setHashKeySerializer(new StringRedisSerializer());
+        refreshTokenRedisTemplate.setHashValueSerializer(new StringRedisSerializer());
+        refreshTokenRedisTemplate.setConnectionFactory(redisConnectionFactory());
+
+        return refreshTokenRedisTemplate;
+    }
+
+    // 유저 주소리스트 캐시는 필드명 없는 바이너리로 저장
+    @Bean
+    public RedisTemplate<String, List<AddressListForSearchResponse>> addressRedisTemplate() {
+        RedisTemplate<String, List<AddressListForSearchResponse>> addressRedisTemplate = new RedisTemplate<>();
+        addressRedisTemplate.setKeySerializer(new StringRedisSerializer());
+        addressRedisTemplate.setValueSerializer(new AddressListSerializer());
+        addressRedisTemplate.setConnectionFactory(redisConnectionFactory());
+
+        return addressRedisTemplate;
+    }
+
+    // 2차 캐시 엔트리는 Hibernate 가 만든 직렬화 가능한 객체이므로 JDK 직렬화로 저장
+    @Bean
+    public RedisTemplate<String, Object> entityCacheRedisTemplate() {
+        RedisTemplate<String, Object> entityCacheRedisTemplate = new RedisTemplate<>();
+        entityCacheRedisTemplate.setKeySerializer(new StringRedisSerializer());
+        entityCacheRedisTemplate.setValueSerializer(new JdkSerializationRedisSerializer());
+        entityCacheRedisTemplate.setConnectionFactory(redisConnectionFactory());
+
+        return entityCacheRedisTemplate;
+    }
+
+    // pub/sub 메시지를 구독하는 리스너 컨테이너 (캐시 무효화 브로드캐스트 등에 사용)
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        return container;
+    }
+
 }
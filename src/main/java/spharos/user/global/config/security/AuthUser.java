@@ -0,0 +1,15 @@
+package spharos.user.global.config.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 토큰 클레임만으로 만든 인증 사용자 정보 (요청마다 User 엔티티를 조회하지 않음)
+@Getter
+@AllArgsConstructor
+public class AuthUser {
+
+    private final Long userId;
+    private final String email;
+    private final Integer status;
+
+}
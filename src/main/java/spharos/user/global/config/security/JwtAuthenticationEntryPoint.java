@@ -0,0 +1,28 @@
+package spharos.user.global.config.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.AuthenticationEntryPoint;
+import org.springframework.stereotype.Component;
+import spharos.user.global.common.response.ErrorResponse;
+import spharos.user.global.common.response.ResponseCode;
+
+import java.io.IOException;
+
+// 인증이 필요한 url 에 토큰 없이 접근한 경우 401 응답
+@Component
+@RequiredArgsConstructor
+public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void commence(HttpServletRequest request, HttpServletResponse response,
+                         AuthenticationException authException) throws IOException {
+        ErrorResponse.write(response, objectMapper, ResponseCode.INVALID_TOKEN);
+    }
+
+}
@@ -0,0 +1,66 @@
+package spharos.user.global.config.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import spharos.user.global.common.response.ErrorResponse;
+import spharos.user.global.common.response.ResponseCode;
+import spharos.user.global.exception.CustomException;
+
+import java.io.IOException;
+import java.util.List;
+
+/*
+    JWT 인증 필터
+    - Authorization 헤더의 Bearer 토큰을 검증하고 클레임으로 AuthUser 를 만들어 SecurityContext 에 저장
+    - 토큰이 없으면 인증 없이 다음 필터로 넘기고, 토큰이 잘못된 경우 바로 401 응답
+ */
+@RequiredArgsConstructor
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        TokenClaims claims;
+        try {
+            claims = jwtTokenProvider.parse(authorization.substring(BEARER_PREFIX.length()));
+        } catch (CustomException e) {
+            ErrorResponse.write(response, objectMapper, e.getResponseCode());
+            return;
+        }
+
+        // 리프레시 토큰으로는 API 를 호출할 수 없고, userId 클레임이 없는 토큰(userId 도입 전 발급)은 샤드/주소 조회에 쓸 수 없음
+        if (JwtTokenProvider.REFRESH_TOKEN.equals(claims.getTokenType()) || claims.getUserId() == null) {
+            ErrorResponse.write(response, objectMapper, ResponseCode.INVALID_TOKEN);
+            return;
+        }
+
+        AuthUser authUser = new AuthUser(claims.getUserId(), claims.getEmail(), claims.getStatus());
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                authUser, null, List.of(new SimpleGrantedAuthority("ROLE_" + claims.getRole())));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        filterChain.doFilter(request, response);
+    }
+
+}
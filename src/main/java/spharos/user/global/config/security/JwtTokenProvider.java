@@ -1,39 +1,95 @@
 package spharos.user.global.config.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
+import io.jsonwebtoken.security.SignatureException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import spharos.user.global.common.response.ResponseCode;
+import spharos.user.global.exception.CustomException;
+import spharos.user.users.domain.User;
 
 import java.security.Key;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
+/*
+    JWT 토큰 발급 및 검증
+    - 서명 키와 파서는 생성시 한 번만 만들어서 재사용
+    - 토큰 헤더의 kid 로 서명 키를 구분하며, 키 교체시 이전 키(JWT.previous-secret-key)는
+      교체 시각(JWT.previous-key-retired-at) 이후 유예 시간(JWT.rotation-grace-period) 동안만 검증에 허용
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class JwtTokenProvider {
 
-    private final RedisTemplate<String, String> redisTemplate;
+    private static final String USER_ID_CLAIM = "userId";
+    private static final String STATUS_CLAIM = "status";
+    private static final String ROLE_CLAIM = "role";
+    private static final String TOKEN_TYPE_CLAIM = "type";
+    private static final String FAMILY_ID_CLAIM = "fid";
 
-    @Value("${JWT.secret-key}")
-    private String secretKey;
+    public static final String ACCESS_TOKEN = "access";
+    public static final String REFRESH_TOKEN = "refresh";
 
-    @Value("${JWT.expiration-time}")
-    private Long EXPIRATION_TIME;
+    private final Long EXPIRATION_TIME;
+    private final Long REFRESH_EXPIRATION_TIME;
 
-    @Value("${JWT.refresh-expiration-time}")
-    private Long REFRESH_EXPIRATION_TIME;
+    private final String keyId;
+    private final Key signingKey;
+    private final String previousKeyId;
+    private final Key previousKey;
+    private final Instant previousKeyValidUntil;
+    private final JwtParser jwtParser;
 
+    public JwtTokenProvider(@Value("${JWT.secret-key}") String secretKey,
+                            @Value("${JWT.key-id:v1}") String keyId,
+                            @Value("${JWT.previous-secret-key:}") String previousSecretKey,
+                            @Value("${JWT.previous-key-id:}") String previousKeyId,
+                            @Value("${JWT.previous-key-retired-at:1970-01-01T00:00:00Z}") Instant previousKeyRetiredAt,
+                            @Value("${JWT.rotation-grace-period:10m}") Duration rotationGracePeriod,
+                            @Value("${JWT.expiration-time}") Long expirationTime,
+                            @Value("${JWT.refresh-expiration-time}") Long refreshExpirationTime) {
+        this.EXPIRATION_TIME = expirationTime;
+        this.REFRESH_EXPIRATION_TIME = refreshExpirationTime;
+
+        // 서명 키는 한 번만 디코딩해서 보관
+        this.keyId = keyId;
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.previousKeyId = previousKeyId;
+        this.previousKey = StringUtils.hasText(previousSecretKey)
+                ? Keys.hmacShaKeyFor(Decoders.BASE64.decode(previousSecretKey))
+                : null;
+        this.previousKeyValidUntil = previousKeyRetiredAt.plus(rotationGracePeriod);
+
+        // kid 헤더로 검증 키를 고르는 파서 (thread-safe 하므로 재사용)
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    // jjwt 0.11 의 SigningKeyResolver 는 JwsHeader 를 raw 타입으로 선언하므로 JwsHeader<?> 로는 재정의할 수 없음
+                    @SuppressWarnings("rawtypes")
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return resolveKey(header.getKeyId());
+                    }
+                })
+                .build();
+    }
 
     /**
      * @param token
@@ -57,42 +113,84 @@ public class JwtTokenProvider {
     }
 
     public String generateToken(Map<String,Object> extractClaims, UserDetails userDetails){
-        log.info("generateToken {} {}", extractClaims, userDetails);
-        return buildToken(extractClaims, userDetails, EXPIRATION_TIME);
+        log.debug("generateToken {} {}", extractClaims, userDetails.getUsername());
+        return buildToken(withType(extractClaims, ACCESS_TOKEN), userDetails, EXPIRATION_TIME);
     }
 
     /**
-     * Refresh 토큰 생성
+     * 리프레시 토큰의 클레임으로 Access 토큰 재발급 (유저 조회 없음)
      */
-    public String generateRefreshToken(UserDetails userDetails){
+    public String generateToken(TokenClaims refreshClaims) {
+        return buildToken(withType(Map.of(), ACCESS_TOKEN), refreshClaims.getEmail(), refreshClaims.getUserId(),
+                refreshClaims.getStatus(), null, EXPIRATION_TIME);
+    }
 
-        String refreshToken = buildToken(Map.of(), userDetails, REFRESH_EXPIRATION_TIME);
-        // redis에 저장
-        redisTemplate.opsForValue().set(
-                userDetails.getUsername(),
-                refreshToken,
-                REFRESH_EXPIRATION_TIME,
-                TimeUnit.MILLISECONDS
-        );
-        log.info("refreshExpirationTime={}",REFRESH_EXPIRATION_TIME);
-        log.info("TimeUnit.MILLISECONDS={}",TimeUnit.MILLISECONDS);
+    /**
+     * Refresh 토큰 생성
+     * @param familyId 기기별 토큰 패밀리 id (회전시에도 유지)
+     * @param tokenId 토큰 고유 id (회전할 때마다 새로 발급)
+     */
+    public String generateRefreshToken(UserDetails userDetails, String familyId, String tokenId){
+        Map<String, Object> claims = withType(Map.of(FAMILY_ID_CLAIM, familyId), REFRESH_TOKEN);
+        return buildToken(claims, userDetails.getUsername(), userIdOf(userDetails), statusOf(userDetails), tokenId,
+                REFRESH_EXPIRATION_TIME);
+    }
 
-        return refreshToken;
+    /**
+     * 기존 Refresh 토큰과 같은 패밀리로 새 Refresh 토큰 생성 (토큰 회전)
+     */
+    public String generateRefreshToken(TokenClaims refreshClaims, String tokenId) {
+        Map<String, Object> claims = withType(Map.of(FAMILY_ID_CLAIM, refreshClaims.getFamilyId()), REFRESH_TOKEN);
+        return buildToken(claims, refreshClaims.getEmail(), refreshClaims.getUserId(), refreshClaims.getStatus(),
+                tokenId, REFRESH_EXPIRATION_TIME);
     }
 
+    public long getRefreshExpirationTime() {
+        return REFRESH_EXPIRATION_TIME;
+    }
 
+    /**
+     * 토큰을 한 번만 파싱해서 서명, 만료를 검증하고 필요한 클레임을 모두 반환합니다.
+     * 만료된 토큰은 EXPIRED_TOKEN, 그 외 검증 실패는 INVALID_TOKEN 예외를 던집니다.
+     */
+    public TokenClaims parse(String token) {
+        try {
+            Jws<Claims> jws = jwtParser.parseClaimsJws(token);
+            Claims claims = jws.getBody();
+            Number userId = claims.get(USER_ID_CLAIM, Number.class);
+            Number status = claims.get(STATUS_CLAIM, Number.class);
+            return TokenClaims.builder()
+                    .email(claims.getSubject())
+                    .userId(userId == null ? null : userId.longValue())
+                    .status(status == null ? null : status.intValue())
+                    .role(claims.get(ROLE_CLAIM, String.class))
+                    .tokenType(claims.get(TOKEN_TYPE_CLAIM, String.class))
+                    .tokenId(claims.getId())
+                    .familyId(claims.get(FAMILY_ID_CLAIM, String.class))
+                    .keyId(jws.getHeader().getKeyId())
+                    .issuedAt(claims.getIssuedAt())
+                    .expiration(claims.getExpiration())
+                    .build();
+        } catch (ExpiredJwtException e) {
+            throw new CustomException(ResponseCode.EXPIRED_TOKEN);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new CustomException(ResponseCode.INVALID_TOKEN);
+        }
+    }
 
     /**
-     * 5
      * @param token 검증할 토큰
      * @param userDetails 사용자 정보
      * @return jwt토큰 유효성 검사
-     * 토큰에서 추출한 UUID가 userDetails에서 가져온 사용자 id가 일치하며
-     * 토큰이 만료되지 않은경우 토큰 유효
+     * 토큰에서 추출한 이메일이 userDetails에서 가져온 사용자 id와 일치하며
+     * 토큰이 만료되지 않은경우 토큰 유효 (서명, 만료는 한 번의 파싱에서 함께 검증)
      */
     public boolean validateToken(String token, UserDetails userDetails){
-        final String userId = getUserId(token);
-        return (userId.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        try {
+            return parse(token).getEmail().equals(userDetails.getUsername());
+        } catch (CustomException e) {
+            return false;
+        }
     }
 
     /**
@@ -102,34 +200,28 @@ public class JwtTokenProvider {
         return extractClaims(token, Claims::getSubject);
     }
 
-
-    /**
-     * 만료 비교
-     */
-    public boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
     /**
      * @param token
      * 주어진 JWT 토큰에서 모든 클레임을 추출하여 반환합니다.
-     * 토큰의 서명을 확인하기 위해 사용할 서명 키(getSigningKey())를 설정하고 토큰을 파싱하여 클레임들을 추출합니다.
+     * 미리 만들어 둔 파서로 서명을 확인하고 클레임들을 추출합니다.
      */
     private Claims extractAllClaims(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody();
     }
 
     /**
-     *  JWT 토큰의 서명을 확인하기 위해 사용할 서명 키를 생성하여 반환합니다
+     *  토큰 헤더의 kid 에 해당하는 검증 키를 반환합니다. kid 가 없는 기존 토큰은 현재 키로 검증합니다.
      */
-    private Key getSigningKey() {
-        byte[] keyByte = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyByte);
+    private Key resolveKey(String kid) {
+        if (kid == null || kid.equals(keyId)) {
+            return signingKey;
+        }
+        if (previousKey != null && kid.equals(previousKeyId) && Instant.now().isBefore(previousKeyValidUntil)) {
+            return previousKey;
+        }
+        throw new SignatureException("unknown or retired signing key : " + kid);
     }
 
     /**
@@ -140,22 +232,47 @@ public class JwtTokenProvider {
             UserDetails userDetails,
             long expiration
     ) {
+        return buildToken(extraClaims, userDetails.getUsername(), userIdOf(userDetails), statusOf(userDetails),
+                null, expiration);
+    }
+
+    private String buildToken(
+            Map<String, Object> extraClaims,
+            String subject,
+            Long userId,
+            Integer status,
+            String tokenId,
+            long expiration
+    ) {
+        long now = System.currentTimeMillis();
         return Jwts
                 .builder()
+                .setHeaderParam(JwsHeader.KEY_ID, keyId)
                 .setClaims(extraClaims)
-                .claim("role","USER")
-                .setSubject(userDetails.getUsername())
-                .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .claim(ROLE_CLAIM, "USER")
+                // 요청마다 유저를 다시 조회하지 않도록 유저 id, 상태를 클레임에 담음
+                .claim(USER_ID_CLAIM, userId)
+                .claim(STATUS_CLAIM, status)
+                .setId(tokenId)
+                .setSubject(subject)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + expiration))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    /**
-     * 주어진 JWT 토큰에서 만료 시간 클레임을 추출하여 반환합니다.
-     */
-    private Date extractExpiration(String token) {
-        return extractClaims(token, Claims::getExpiration);
+    private Map<String, Object> withType(Map<String, Object> claims, String tokenType) {
+        Map<String, Object> typed = new HashMap<>(claims);
+        typed.put(TOKEN_TYPE_CLAIM, tokenType);
+        return typed;
+    }
+
+    private Long userIdOf(UserDetails userDetails) {
+        return userDetails instanceof User user ? user.getId() : null;
+    }
+
+    private Integer statusOf(UserDetails userDetails) {
+        return userDetails instanceof User user ? user.getStatus() : null;
     }
 
 }
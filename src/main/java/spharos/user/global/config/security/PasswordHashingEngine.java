@@ -0,0 +1,187 @@
+package spharos.user.global.config.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import org.springframework.stereotype.Component;
+import spharos.user.global.common.response.ResponseCode;
+import spharos.user.global.exception.CustomException;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/*
+    비밀번호 해시 엔진
+    - 모든 비밀번호 암호화/검증은 이 컴포넌트를 거침
+    - 해시 연산은 요청 스레드가 아닌 별도의 고정 크기 스레드풀에서 실행하고, 대기열이 가득 차면 바로 거절(SERVER_BUSY)
+    - 작업마다 timeout 기한을 두고, 기한이 지났거나 호출자가 기다림을 포기한 작업은 대기열에서 꺼내도 해시하지 않음
+      (bcrypt 는 인터럽트로 멈출 수 없으므로 시작 전에 걸러서 대기열에 쌓인 만료 작업이 스레드를 점유하지 않게 함)
+    - 저장된 해시는 {id} 접두어로 알고리즘을 구분하며, 접두어가 없는 기존 해시는 bcrypt 로 검증
+    - 알고리즘이나 cost 를 바꾸면 upgradeEncoding 이 true 를 반환하므로 로그인 성공시 새 설정으로 다시 해시
+    - 해시 소요시간은 password.hashing 타이머(히스토그램)로 기록
+ */
+@Slf4j
+@Component
+public class PasswordHashingEngine implements PasswordEncoder {
+
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("^\\$2[aby]?\\$\\d\\d\\$[./0-9A-Za-z]{53}$");
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+    private final Counter expiredCounter;
+
+    public PasswordHashingEngine(@Value("${password-hashing.algorithm}") String algorithm,
+                                 @Value("${password-hashing.bcrypt-strength}") int bcryptStrength,
+                                 @Value("${password-hashing.pool-size}") int poolSize,
+                                 @Value("${password-hashing.queue-capacity}") int queueCapacity,
+                                 @Value("${password-hashing.timeout}") Duration timeout,
+                                 MeterRegistry meterRegistry) {
+
+        // 알고리즘 id 별 인코더 (접두어가 없는 기존 해시는 bcrypt 로 검증)
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        DelegatingPasswordEncoder delegatingEncoder = new DelegatingPasswordEncoder(algorithm, Map.of(
+                "bcrypt", bcrypt,
+                "pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8()));
+        delegatingEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        this.delegate = delegatingEncoder;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.timeout = timeout;
+
+        this.encodeTimer = Timer.builder("password.hashing")
+                .tag("operation", "encode")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hashing")
+                .tag("operation", "matches")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejectedCounter = meterRegistry.counter("password.hashing.rejected");
+        this.expiredCounter = meterRegistry.counter("password.hashing.expired");
+        meterRegistry.gauge("password.hashing.queue.size", executor, e -> e.getQueue().size());
+        meterRegistry.gauge("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount);
+
+        log.info("password hashing engine. algorithm={}, bcryptStrength={}, poolSize={}, queueCapacity={}",
+                algorithm, bcryptStrength, poolSize, queueCapacity);
+    }
+
+    // 비밀번호 암호화 (해시 스레드풀에서 실행)
+    public CompletableFuture<String> encodeAsync(CharSequence rawPassword) {
+        return submit(() -> encodeTimer.record(() -> delegate.encode(rawPassword)));
+    }
+
+    // 비밀번호 일치 확인 (해시 스레드풀에서 실행)
+    public CompletableFuture<Boolean> matchesAsync(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return await(encodeAsync(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return await(matchesAsync(rawPassword, encodedPassword));
+    }
+
+    // 호출 스레드에서 바로 암호화 (대량 가져오기처럼 자체 스레드풀에서 실행하는 경우, 요청용 스레드풀을 점유하지 않음)
+    public String encodeOnCaller(CharSequence rawPassword) {
+        return encodeTimer.record(() -> delegate.encode(rawPassword));
+    }
+
+    // 이 엔진이 검증할 수 있는 형식의 해시인지 확인 ({bcrypt}, {pbkdf2} 접두어 또는 접두어 없는 bcrypt)
+    public boolean isSupportedHash(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        String hash = encodedPassword.startsWith("{bcrypt}") ? encodedPassword.substring("{bcrypt}".length())
+                : encodedPassword;
+        return BCRYPT_PATTERN.matcher(hash).matches()
+                || (encodedPassword.startsWith("{pbkdf2}") && encodedPassword.length() > "{pbkdf2}".length());
+    }
+
+    // 현재 설정(알고리즘, cost)과 다른 해시인지 확인
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                // 호출자가 포기했거나 대기열에서 기한을 넘긴 작업은 해시하지 않음
+                if (future.isDone() || System.nanoTime() - deadline >= 0) {
+                    expiredCounter.increment();
+                    future.completeExceptionally(new CustomException(ResponseCode.SERVER_BUSY));
+                    return;
+                }
+                try {
+                    future.complete(task.get());
+                } catch (RuntimeException | Error e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 대기열이 가득 찬 경우 바로 거절
+            rejectedCounter.increment();
+            throw new CustomException(ResponseCode.SERVER_BUSY);
+        }
+        return future;
+    }
+
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 아직 대기열에 있는 작업은 꺼낼 때 건너뜀
+            future.cancel(false);
+            throw new CustomException(ResponseCode.SERVER_BUSY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ResponseCode.SERVER_BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+}
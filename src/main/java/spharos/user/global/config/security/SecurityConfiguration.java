@@ -1,22 +1,83 @@
 package spharos.user.global.config.security;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.CsrfConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
 public class SecurityConfiguration {
 
+    private final JwtTokenProvider jwtTokenProvider;
+    private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
+    private final ObjectMapper objectMapper;
+    private final PasswordHashingEngine passwordHashingEngine;
+
+    /*
+        actuator 전용 필터 체인 (API 필터 체인보다 먼저 확인)
+        - health 만 인증 없이 허용, 나머지(metrics, userkeyfilter, sharding 등 운영용 쓰기 작업 포함)는 ADMIN 만 허용
+        - 운영자 계정은 management.admin.* 의 HTTP Basic 계정 (비밀번호는 {bcrypt} 해시로 설정)
+        - 비밀번호를 설정하지 않으면 운영자 계정이 없으므로 health 외에는 모두 401
+     */
     @Bean
+    @Order(1)
+    public SecurityFilterChain actuatorSecurityFilterChain(HttpSecurity http,
+                                                           @Value("${management.admin.username}") String adminUsername,
+                                                           @Value("${management.admin.password}") String adminPassword)
+            throws Exception {
+
+        InMemoryUserDetailsManager admins = new InMemoryUserDetailsManager();
+        if (!adminPassword.isBlank()) {
+            admins.createUser(User.withUsername(adminUsername).password(adminPassword).roles("ADMIN").build());
+        }
+        DaoAuthenticationProvider adminAuthenticationProvider = new DaoAuthenticationProvider();
+        adminAuthenticationProvider.setUserDetailsService(admins);
+        adminAuthenticationProvider.setPasswordEncoder(passwordHashingEngine);
+
+        http
+                .securityMatcher("/actuator/**")
+                .csrf(CsrfConfigurer::disable)
+                .authorizeHttpRequests(
+                        authorizeHttpRequests -> authorizeHttpRequests
+                                .requestMatchers("/actuator/health", "/actuator/health/**")
+                                .permitAll()
+                                .anyRequest().hasRole("ADMIN")
+                )
+                .authenticationManager(new ProviderManager(adminAuthenticationProvider))
+                .httpBasic(Customizer.withDefaults())
+                .formLogin(formLogin -> formLogin.disable())
+                .sessionManagement(
+                        sessionManagement -> sessionManagement
+                                .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+                );
+
+        return http.build();
+    }
+
+    @Bean
+    @Order(2)
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
 
+        // JWT 인증 필터 (서블릿 필터로 중복 등록되지 않도록 Bean 으로 등록하지 않음)
+        JwtAuthenticationFilter jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtTokenProvider, objectMapper);
+
         http
                 // Restful API를 사용하므로, csrf는 사용할 필요가 없다
                 .csrf(CsrfConfigurer::disable)
@@ -27,27 +88,45 @@ public class SecurityConfiguration {
                         authorizeHttpRequests -> authorizeHttpRequests
                                 .requestMatchers(org.springframework.web.cors.CorsUtils::isPreFlightRequest)
                                 .permitAll()
+                                // 비동기 API 의 결과 응답(ASYNC)과 에러 응답(ERROR) 디스패치는 첫 요청에서 이미 인가됨
+                                // (JWT 필터는 요청당 한 번만 실행되므로 다시 검사하면 인증정보가 없어 401)
+                                .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR)
+                                .permitAll()
                                 // RESTful 하게 구분되는 경우 -> HttpMethod 까지 적어줘야한다
-//                                .requestMatchers(
-//                                        HttpMethod.GET, "/api/v1/franchise")
-//                                .permitAll() // 모든 가맹점 정보 조회
+                                .requestMatchers(
+                                        HttpMethod.PUT, "/api/v1/users/password")
+                                .permitAll() // 비밀번호 찾기 후 변경
                                 // url이 특정지어지는 경우 -> HttpMethod를 적어줄 필요가 없다
                                 .requestMatchers(
-                                        "/**"                 // 토큰 재발급
+                                        "/api/v1/users/email/**",       // 이메일 중복 체크, 아이디 찾기
+                                        "/api/v1/users/nickname/check", // 닉네임 중복 체크
+                                        "/api/v1/users/join",           // 회원가입
+                                        "/api/v1/users/login",          // 로그인
+                                        "/api/v1/users/token/**",       // 토큰 재발급
+                                        "/api/v1/users/review/**",      // 리뷰 작성자 조회 (서비스간 호출)
+                                        "/api/v1/users/test",
+                                        "/api/v1/users/jenkins",
+                                        "/swagger-ui/**",
+                                        "/v3/api-docs/**"
                                 )
-                                .permitAll() // 위의 url은 모두 filter를 거치지 않음
-//                                .anyRequest().authenticated() // 위의 url을 제외한 모든 url은 필터를 거쳐야함
+                                .permitAll() // 위의 url은 인증 없이 접근 가능
+                                .anyRequest().authenticated() // 위의 url을 제외한 모든 url은 인증이 필요
                 )
                 // 폼 로그인 사용 안함
-//                .formLogin(formLogin -> formLogin.disable())
+                .formLogin(formLogin -> formLogin.disable())
+                .httpBasic(httpBasic -> httpBasic.disable())
                 // 토큰 방식을 사용하므로, 서버에서 session을 관리하지 않음. 따라서 STATELESS로 설정
                 .sessionManagement(
                         sessionManagement -> sessionManagement
                                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
-                ); // 세션을 생성하지 않음. JWT 인증이기 때문에 상태가 없는(stateless) 세션 정책을 사용
-//                .authenticationProvider(authenticationProvider); // 커스텀 인증을 사용
-        // JWT 인증 필터를 UsernamePasswordAuthenticationFilter 전에 추가
-//                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                ) // 세션을 생성하지 않음. JWT 인증이기 때문에 상태가 없는(stateless) 세션 정책을 사용
+                // 토큰 없이 인증이 필요한 url 에 접근한 경우 401
+                .exceptionHandling(
+                        exceptionHandling -> exceptionHandling
+                                .authenticationEntryPoint(jwtAuthenticationEntryPoint)
+                )
+                // JWT 인증 필터를 UsernamePasswordAuthenticationFilter 전에 추가
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
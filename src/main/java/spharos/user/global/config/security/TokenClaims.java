@@ -0,0 +1,24 @@
+package spharos.user.global.config.security;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Date;
+
+// 한 번의 파싱으로 검증한 토큰의 클레임 정보
+@Getter
+@Builder
+public class TokenClaims {
+
+    private String email;
+    private Long userId;
+    private Integer status;
+    private String role;
+    private String tokenType;
+    private String tokenId;
+    private String familyId;
+    private String keyId;
+    private Date issuedAt;
+    private Date expiration;
+
+}
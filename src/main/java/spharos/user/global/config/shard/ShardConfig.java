@@ -0,0 +1,97 @@
+package spharos.user.global.config.shard;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationInitializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import spharos.user.global.config.datasource.ConnectionPermits;
+import spharos.user.global.config.datasource.ReadYourWritesTracker;
+import spharos.user.global.config.datasource.ReplicaRoutingDataSource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+    샤드 DataSource 구성 (sharding.enabled=true)
+    - 0번 샤드는 기존 primary + 복제본, 추가 샤드는 sharding.shard-urls 의 primary 만 사용 (풀 설정은 primary 와 동일)
+    - 추가 샤드도 같은 Flyway 스크립트로 마이그레이션하고, id_sequence 를 샤드마다 2^40 단위 구간으로 옮겨 샤드 간 id 가 겹치지 않게 함
+    - 커넥션 풀 수치는 hikaricp.*{pool=shard-N} 로 확인
+    - 시작할 때 디렉터리에 없는 0번 샤드 유저를 등록 (웹 서버는 모든 빈이 초기화된 뒤 요청을 받으므로 라우팅 전에 끝남)
+ */
+@Configuration
+@ConditionalOnProperty(name = "sharding.enabled", havingValue = "true")
+public class ShardConfig {
+
+    static final int ID_RANGE_BITS = 40;
+
+    @Bean
+    public ShardRoutingDataSource shardRoutingDataSource(HikariDataSource primaryDataSource,
+                                                         ReplicaRoutingDataSource routingDataSource,
+                                                         ReadYourWritesTracker readYourWritesTracker,
+                                                         ConnectionPermits connectionPermits,
+                                                         MeterRegistry meterRegistry,
+                                                         @Value("${sharding.shard-urls}") List<String> shardUrls,
+                                                         @Value("${datasource-routing.max-lag}") Duration maxLag) {
+
+        List<ShardRoutingDataSource.Shard> shards = new ArrayList<>();
+        shards.add(new ShardRoutingDataSource.Shard(0, primaryDataSource, routingDataSource));
+        for (String url : shardUrls) {
+            if (url.isBlank()) {
+                continue;
+            }
+
+            HikariDataSource primary = new HikariDataSource();
+            primaryDataSource.copyStateTo(primary);
+            primary.setJdbcUrl(url.trim());
+            primary.setPoolName("shard-" + shards.size());
+            primary.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            shards.add(new ShardRoutingDataSource.Shard(shards.size(), primary,
+                    new ReplicaRoutingDataSource(primary, List.of(), readYourWritesTracker, maxLag,
+                            connectionPermits, meterRegistry)));
+        }
+
+        return new ShardRoutingDataSource(shards);
+    }
+
+    // 0번 샤드는 Flyway 자동 설정이 마이그레이션
+    @Bean
+    public InitializingBean shardMigrator(Flyway flyway, ShardRoutingDataSource shardRoutingDataSource) {
+        return () -> {
+            for (ShardRoutingDataSource.Shard shard : shardRoutingDataSource.getShards()) {
+                if (shard.getIndex() == 0) {
+                    continue;
+                }
+
+                Flyway.configure()
+                        .configuration(flyway.getConfiguration())
+                        .dataSource(shard.getPrimary())
+                        .load()
+                        .migrate();
+
+                long base = (long) shard.getIndex() << ID_RANGE_BITS;
+                new JdbcTemplate(shard.getPrimary())
+                        .update("update id_sequence set next_val = ? where next_val < ?", base, base);
+            }
+        };
+    }
+
+    // 0번 샤드 마이그레이션(user_shard 생성)이 끝난 뒤 실행되도록 Flyway 초기화 빈을 먼저 생성
+    @Bean
+    public InitializingBean shardDirectoryBackfill(ObjectProvider<FlywayMigrationInitializer> flywayMigrationInitializer,
+                                                   ShardDirectory shardDirectory) {
+        return () -> {
+            flywayMigrationInitializer.getIfAvailable();
+            shardDirectory.backfill();
+        };
+    }
+
+}
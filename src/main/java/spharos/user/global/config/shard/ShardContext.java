@@ -0,0 +1,67 @@
+package spharos.user.global.config.shard;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/*
+    현재 스레드(트랜잭션)가 사용할 샤드
+    - call/run 실행 중에는 스레드에, 진행 중인 트랜잭션이 있으면 트랜잭션 종료까지 트랜잭션에도 묶음
+    - 트랜잭션 안의 INSERT/UPDATE 는 커밋 시점에 flush 되므로 call 이 끝난 뒤에도 트랜잭션의 샤드를 사용해야 함
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+    private static final Object TRANSACTION_KEY = new Object();
+
+    private ShardContext() {
+    }
+
+    // 현재 샤드 (정해지지 않았으면 null)
+    public static Integer current() {
+        Integer shard = CURRENT.get();
+        if (shard != null) {
+            return shard;
+        }
+        return (Integer) TransactionSynchronizationManager.getResource(TRANSACTION_KEY);
+    }
+
+    public static <T> T call(int shard, Supplier<T> action) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        bindToTransaction(shard);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    public static void run(int shard, Runnable action) {
+        call(shard, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private static void bindToTransaction(int shard) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(TRANSACTION_KEY)) {
+            return;
+        }
+
+        TransactionSynchronizationManager.bindResource(TRANSACTION_KEY, shard);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(TRANSACTION_KEY);
+            }
+        });
+    }
+
+}
@@ -0,0 +1,229 @@
+package spharos.user.global.config.shard;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/*
+    유저 -> 샤드 디렉터리 (0번 샤드의 user_shard 테이블)
+    - 이메일, 닉네임, 휴대폰 번호, 유저 id 로 유저가 있는 샤드를 찾으므로 해당 조회는 항상 한 샤드에서만 실행
+    - 이메일 유니크 제약으로 샤드 간 이메일 중복을 막음
+    - 샤드 이동 중(target_shard 가 있는) 유저는 캐시하지 않음
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "sharding.enabled", havingValue = "true")
+public class ShardDirectory {
+
+    private static final RowMapper<Entry> ENTRY_MAPPER = (rs, rowNum) -> new Entry(rs.getLong("user_id"),
+            rs.getInt("shard"), rs.getObject("target_shard", Integer.class));
+    private static final int CONFLICT_REPORT_LIMIT = 100;
+
+    private static final RowMapper<Row> ROW_MAPPER = (rs, rowNum) -> new Row(rs.getLong("user_id"),
+            rs.getString("email"), rs.getInt("shard"), rs.getObject("target_shard", Integer.class));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<String, Entry> cache;
+
+    public ShardDirectory(ShardRoutingDataSource shardRoutingDataSource,
+                          @Value("${sharding.directory-cache.maximum-size}") long cacheMaximumSize,
+                          @Value("${sharding.directory-cache.ttl}") Duration cacheTtl,
+                          MeterRegistry meterRegistry) {
+        this.jdbcTemplate = new JdbcTemplate(shardRoutingDataSource.getShard(0).getPrimary());
+        this.transactionTemplate = new TransactionTemplate(
+                new DataSourceTransactionManager(shardRoutingDataSource.getShard(0).getPrimary()));
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfterWrite(cacheTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "shardDirectory");
+    }
+
+    // 유저가 있는 샤드 조회 (닉네임, 휴대폰 번호가 여러 유저에 있으면 id 가 가장 작은 유저)
+    public Optional<Entry> find(ShardKey.Type type, Object value) {
+        String cacheKey = type + ":" + value;
+        Entry cached = cache.getIfPresent(cacheKey);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        List<Entry> entries = jdbcTemplate.query("select user_id, shard, target_shard from user_shard where "
+                + column(type) + " = ? order by user_id limit 1", ENTRY_MAPPER, value);
+        if (entries.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Entry entry = entries.get(0);
+        if (!entry.isMoving()) {
+            cache.put(cacheKey, entry);
+        }
+        return Optional.of(entry);
+    }
+
+    // 이동이 끝난 유저의 캐시 제거 (원본 샤드 펜스에 걸린 인스턴스가 다음 요청부터 대상 샤드로 보내도록)
+    public void evict(long userId) {
+        cache.asMap().values().removeIf(entry -> entry.userId() == userId);
+    }
+
+    /*
+        새 유저 등록 (이메일이 이미 있으면 DuplicateKeyException)
+        - 트랜잭션 안이면 롤백시 등록을 취소
+     */
+    public void registerAll(List<NewEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate("insert into user_shard (user_id, email, nickname, phone, shard) values (?, ?, ?, ?, ?)",
+                entries, entries.size(), (ps, entry) -> {
+                    ps.setLong(1, entry.userId());
+                    ps.setString(2, entry.email());
+                    ps.setString(3, entry.nickname());
+                    ps.setString(4, entry.phone());
+                    ps.setInt(5, entry.shard());
+                });
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        remove(entries.stream().map(NewEntry::userId).toList());
+                    }
+                }
+            });
+        }
+    }
+
+    public void remove(List<Long> userIds) {
+        jdbcTemplate.batchUpdate("delete from user_shard where user_id = ?", userIds, userIds.size(),
+                (ps, userId) -> ps.setLong(1, userId));
+    }
+
+    // 닉네임, 휴대폰 번호 변경 반영
+    public void updateKeys(long userId, String nickname, String phone) {
+        jdbcTemplate.update("update user_shard set nickname = ?, phone = ? where user_id = ?", nickname, phone, userId);
+    }
+
+    // user_id 순으로 afterUserId 이후 유저 조회 (재배치 대상 탐색용)
+    public List<Row> findAfter(long afterUserId, int limit) {
+        return jdbcTemplate.query("select user_id, email, shard, target_shard from user_shard where user_id > ? "
+                + "order by user_id limit ?", ROW_MAPPER, afterUserId, limit);
+    }
+
+    // 이동 시작 표시 (이동 중인 유저는 캐시하지 않음)
+    public boolean beginMove(long userId, int from, int to) {
+        return jdbcTemplate.update("update user_shard set target_shard = ? where user_id = ? and shard = ? "
+                + "and target_shard is null", to, userId, from) == 1;
+    }
+
+    // 디렉터리 행을 잠근 채로 실행 (같은 유저의 이동이 겹치지 않도록)
+    public <T> T withLock(long userId, Function<Optional<Entry>, T> action) {
+        return transactionTemplate.execute(status -> action.apply(jdbcTemplate.query(
+                "select user_id, shard, target_shard from user_shard where user_id = ? for update",
+                ENTRY_MAPPER, userId).stream().findFirst()));
+    }
+
+    // 이동 완료 - withLock 안에서 호출
+    public boolean completeMove(long userId, int from, int to) {
+        return jdbcTemplate.update("update user_shard set shard = ?, target_shard = null where user_id = ? "
+                + "and shard = ? and target_shard = ?", to, userId, from, to) == 1;
+    }
+
+    /*
+        0번 샤드에 저장되어 있지만 디렉터리에 없는 유저 등록 (샤딩 도입 전 유저, 샤딩을 끈 인스턴스가 저장한 유저)
+        - 이메일이 이미 다른 유저로 등록되어 있으면 건너뛰고 충돌로 보고 (충돌한 유저는 라우팅되지 않으므로 수동 정리 필요)
+        - 여러 번 실행해도 결과가 같음
+     */
+    public BackfillResult backfill() {
+        int registered = jdbcTemplate.update("""
+                insert ignore into user_shard (user_id, email, nickname, phone, shard)
+                select u.id, u.email, u.nickname, u.phone, 0 from user u
+                where not exists (select 1 from user_shard s where s.user_id = u.id)
+                """);
+
+        List<Conflict> conflicts = jdbcTemplate.query("""
+                        select u.id, u.email, s.user_id, s.shard from user u
+                        join user_shard s on s.email = u.email
+                        where not exists (select 1 from user_shard d where d.user_id = u.id)
+                        order by u.id limit ?
+                        """,
+                (rs, rowNum) -> new Conflict(rs.getLong(1), rs.getString(2), rs.getLong(3), rs.getInt(4)),
+                CONFLICT_REPORT_LIMIT);
+
+        log.info("shard directory backfill completed. registered={}", registered);
+        if (!conflicts.isEmpty()) {
+            log.warn("shard directory backfill skipped users with duplicate email. conflicts={}", conflicts);
+        }
+        return new BackfillResult(registered, conflicts);
+    }
+
+    // 샤드별 유저 수
+    public Map<Integer, Long> countByShard() {
+        Map<Integer, Long> counts = new LinkedHashMap<>();
+        jdbcTemplate.query("select shard, count(*) from user_shard group by shard order by shard",
+                rs -> {
+                    counts.put(rs.getInt(1), rs.getLong(2));
+                });
+        return counts;
+    }
+
+    public long countMoving() {
+        Long count = jdbcTemplate.queryForObject("select count(*) from user_shard where target_shard is not null",
+                Long.class);
+        return count == null ? 0 : count;
+    }
+
+    private String column(ShardKey.Type type) {
+        return switch (type) {
+            case EMAIL -> "email";
+            case NICKNAME -> "nickname";
+            case PHONE -> "phone";
+            case USER_ID -> "user_id";
+        };
+    }
+
+    public record Entry(long userId, int shard, Integer targetShard) {
+
+        public boolean isMoving() {
+            return targetShard != null;
+        }
+
+    }
+
+    public record NewEntry(long userId, String email, String nickname, String phone, int shard) {
+    }
+
+    public record Row(long userId, String email, int shard, Integer targetShard) {
+    }
+
+    public record BackfillResult(int registered, List<Conflict> conflicts) {
+    }
+
+    // 0번 샤드의 유저(userId)와 같은 이메일로 디렉터리에 등록된 유저(directoryUserId)
+    public record Conflict(long userId, String email, long directoryUserId, int directoryShard) {
+    }
+
+}
@@ -0,0 +1,41 @@
+package spharos.user.global.config.shard;
+
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import spharos.user.users.domain.User;
+
+/*
+    유저 닉네임, 휴대폰 번호 변경을 샤드 디렉터리에 반영하는 엔티티 리스너
+    - 변경 감지로 UPDATE 되므로 리포지토리 호출로는 알 수 없음
+    - 커밋된 변경만 반영 (샤딩을 사용하지 않으면 아무것도 하지 않음)
+ */
+public class ShardDirectoryListener {
+
+    private final ObjectProvider<ShardDirectory> shardDirectory;
+
+    public ShardDirectoryListener(ObjectProvider<ShardDirectory> shardDirectory) {
+        this.shardDirectory = shardDirectory;
+    }
+
+    @PostUpdate
+    public void postUpdate(User user) {
+        ShardDirectory directory = shardDirectory.getIfAvailable();
+        if (directory == null) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            directory.updateKeys(user.getId(), user.getNickname(), user.getPhone());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                directory.updateKeys(user.getId(), user.getNickname(), user.getPhone());
+            }
+        });
+    }
+
+}
@@ -0,0 +1,15 @@
+package spharos.user.global.config.shard;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/*
+    여러 유저를 한 번에 조회하는 리포지토리 메서드 표시
+    - 샤딩 사용시 모든 샤드에서 병렬로 실행한 뒤 결과 리스트를 샤드 순서대로 합침
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ShardFanOut {
+}
@@ -0,0 +1,23 @@
+package spharos.user.global.config.shard;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/*
+    샤드를 결정하는 리포지토리 메서드 파라미터 표시
+    - 샤딩 사용시 디렉터리에서 값에 해당하는 유저의 샤드를 찾아 그 샤드에서만 실행
+    - 디렉터리에 없는 값이면 쿼리 없이 빈 결과(Optional.empty, false, 0, 빈 리스트, null)를 반환
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ShardKey {
+
+    Type value();
+
+    enum Type {
+        EMAIL, NICKNAME, PHONE, USER_ID
+    }
+
+}
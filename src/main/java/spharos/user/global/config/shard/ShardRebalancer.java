@@ -0,0 +1,152 @@
+package spharos.user.global.config.shard;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/*
+    온라인 샤드 재배치
+    1. 배치 샤드가 바뀐 유저를 찾아 디렉터리에 대상 샤드를 기록
+    2. 유저마다 디렉터리 행을 잠근 채로 원본 행을 잠가 진행 중인 쓰기를 기다린 뒤 대상 샤드로 복사하고 원본에 펜스를 남긴 다음 디렉터리를 대상 샤드로 변경
+    3. 펜스 이후 원본 샤드로 온 쓰기(디렉터리 캐시가 만료되지 않은 인스턴스)는 거부되고, 조회는 원본에 남은 행으로 처리
+    4. fence-retention 이 지나면 원본 행과 펜스 삭제 (fence-retention 은 디렉터리 캐시 TTL 보다 길게)
+    - 펜스 기록 후 디렉터리 변경 전에 중단되면 다음 실행에서 다시 복사하고 디렉터리를 변경 (원본은 펜스로 변경되지 않음)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "sharding.enabled", havingValue = "true")
+public class ShardRebalancer {
+
+    private static final int SCAN_SIZE = 1000;
+
+    private final ShardRouter shardRouter;
+    private final ShardDirectory shardDirectory;
+    private final UserShardMover userShardMover;
+    private final Duration fenceRetention;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            runnable -> new Thread(runnable, "shard-rebalance"));
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile RebalanceRun lastRun;
+
+    public ShardRebalancer(ShardRouter shardRouter, ShardDirectory shardDirectory, UserShardMover userShardMover,
+                           @Value("${sharding.fence-retention}") Duration fenceRetention) {
+        this.shardRouter = shardRouter;
+        this.shardDirectory = shardDirectory;
+        this.userShardMover = userShardMover;
+        this.fenceRetention = fenceRetention;
+    }
+
+    // 백그라운드에서 재배치 시작 (이미 실행 중이면 false)
+    public boolean startRebalance(int limit) {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+
+        Instant startedAt = Instant.now();
+        executor.execute(() -> {
+            try {
+                lastRun = new RebalanceRun(startedAt, Instant.now(), rebalance(limit), null);
+            } catch (RuntimeException e) {
+                log.error("shard rebalance failed", e);
+                lastRun = new RebalanceRun(startedAt, Instant.now(), 0, e.getMessage());
+            } finally {
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    // 마지막으로 끝난 백그라운드 재배치 결과 (없으면 null)
+    public RebalanceRun getLastRun() {
+        return lastRun;
+    }
+
+    // 배치 샤드와 다른 샤드에 있는 유저를 최대 limit 명까지 이동하고 이동한 유저 수를 반환
+    public synchronized int rebalance(int limit) {
+
+        List<Move> moves = new ArrayList<>();
+        long afterUserId = 0L;
+        while (moves.size() < limit) {
+            List<ShardDirectory.Row> rows = shardDirectory.findAfter(afterUserId, SCAN_SIZE);
+            if (rows.isEmpty()) {
+                break;
+            }
+            for (ShardDirectory.Row row : rows) {
+                int placement = shardRouter.placementFor(row.email());
+                if (row.shard() == placement || moves.size() >= limit) {
+                    continue;
+                }
+                // 이전 실행이 중단되어 이동 중으로 남은 유저는 이어서 이동
+                boolean moving = row.targetShard() == null
+                        ? shardDirectory.beginMove(row.userId(), row.shard(), placement)
+                        : row.targetShard() == placement;
+                if (moving) {
+                    moves.add(new Move(row.userId(), row.shard(), placement));
+                }
+            }
+            afterUserId = rows.get(rows.size() - 1).userId();
+        }
+
+        int moved = 0;
+        for (Move move : moves) {
+            boolean completed = shardDirectory.withLock(move.userId(), entry -> {
+                if (entry.isEmpty() || !isMoving(entry.get(), move)) {
+                    return false;
+                }
+                userShardMover.copyAndFence(move.userId(), move.from(), move.to());
+                return shardDirectory.completeMove(move.userId(), move.from(), move.to());
+            });
+            if (completed) {
+                moved++;
+            }
+        }
+
+        if (!moves.isEmpty()) {
+            log.info("shard rebalance completed. moved={}", moved);
+        }
+        return moved;
+    }
+
+    // 펜스 보관 기간이 지난 원본 행 삭제
+    @Scheduled(fixedDelayString = "${sharding.fence-purge-interval-ms}")
+    public void purgeFenced() {
+        Instant before = Instant.now().minus(fenceRetention);
+        for (int shard = 0; shard < shardRouter.getShardCount(); shard++) {
+            int purged = userShardMover.purgeFenced(shard, before);
+            if (purged > 0) {
+                log.info("purged moved users from shard {}. users={}", shard, purged);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private boolean isMoving(ShardDirectory.Entry entry, Move move) {
+        return entry.shard() == move.from() && Integer.valueOf(move.to()).equals(entry.targetShard());
+    }
+
+    public record RebalanceRun(Instant startedAt, Instant finishedAt, int moved, String error) {
+    }
+
+    private record Move(long userId, int from, int to) {
+    }
+
+}
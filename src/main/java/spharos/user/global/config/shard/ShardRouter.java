@@ -0,0 +1,139 @@
+package spharos.user.global.config.shard;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import spharos.user.global.config.thread.VirtualThreads;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+
+/*
+    샤드 배치 및 샤드 단위 실행
+    - 새 유저는 이메일 해시를 jump consistent hash 로 샤드 수에 매핑한 샤드에 저장 (샤드를 늘려도 유저의 1/N 만 이동)
+    - 샤딩을 사용하지 않으면 샤드는 0번 하나
+ */
+@Component
+public class ShardRouter {
+
+    private final boolean enabled;
+    private final int shardCount;
+    private final ExecutorService fanOutExecutor;
+
+    public ShardRouter(@Value("${sharding.enabled}") boolean enabled,
+                       @Value("${sharding.shard-urls}") List<String> shardUrls,
+                       @Value("${virtual-threads.enabled}") boolean virtualThreads) {
+        this.enabled = enabled;
+        this.shardCount = enabled ? 1 + (int) shardUrls.stream().filter(url -> !url.isBlank()).count() : 1;
+
+        // 가상 스레드 실행시 fan-out 마다 가상 스레드 사용 (DB 동시 사용은 커넥션 permit 으로 제한)
+        AtomicInteger threadCount = new AtomicInteger();
+        if (!enabled) {
+            this.fanOutExecutor = null;
+        } else if (virtualThreads && VirtualThreads.isSupported()) {
+            this.fanOutExecutor = VirtualThreads.newThreadPerTaskExecutor("shard-fan-out");
+        } else {
+            this.fanOutExecutor = Executors.newFixedThreadPool(shardCount * 2, runnable -> {
+                Thread thread = new Thread(runnable, "shard-fan-out-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    // 이메일로 유저가 있어야 할 샤드 계산 (대소문자 구분 없음)
+    public int placementFor(String email) {
+        return jumpConsistentHash(hash(email.toLowerCase(Locale.ROOT)), shardCount);
+    }
+
+    // 모든 샤드에서 순서대로 실행 (샤딩을 사용하지 않으면 한 번만 실행)
+    public void forEachShard(IntConsumer action) {
+        if (!enabled) {
+            action.accept(0);
+            return;
+        }
+        for (int shard = 0; shard < shardCount; shard++) {
+            int current = shard;
+            ShardContext.run(current, () -> action.accept(current));
+        }
+    }
+
+    // 모든 샤드에서 병렬로 실행하고 결과를 샤드 순서대로 반환
+    public <T> List<T> fanOut(IntFunction<T> action) {
+        if (!enabled) {
+            return List.of(action.apply(0));
+        }
+
+        List<Future<T>> futures = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            int current = shard;
+            futures.add(fanOutExecutor.submit(() -> ShardContext.call(current, () -> action.apply(current))));
+        }
+
+        List<T> results = new ArrayList<>(shardCount);
+        try {
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("shard fan-out interrupted", e);
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("shard fan-out failed", e.getCause());
+        }
+        return results;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (fanOutExecutor != null) {
+            fanOutExecutor.shutdown();
+        }
+    }
+
+    private static long hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Lamping, Veach - A Fast, Minimal Memory, Consistent Hash Algorithm
+    static int jumpConsistentHash(long key, int buckets) {
+        long bucket = -1;
+        long next = 0;
+        while (next < buckets) {
+            bucket = next;
+            key = key * 2862933555777941757L + 1;
+            next = (long) ((bucket + 1) * ((double) (1L << 31) / (double) ((key >>> 33) + 1)));
+        }
+        return (int) bucket;
+    }
+
+}
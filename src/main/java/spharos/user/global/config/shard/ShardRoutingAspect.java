@@ -0,0 +1,221 @@
+package spharos.user.global.config.shard;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import spharos.user.global.common.response.ResponseCode;
+import spharos.user.global.config.security.AuthUser;
+import spharos.user.global.exception.CustomException;
+import spharos.user.users.domain.User;
+
+import javax.sql.DataSource;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/*
+    유저/주소 리포지토리 호출을 샤드로 라우팅
+    - 트랜잭션(또는 ShardContext)에 이미 샤드가 정해져 있으면 그 샤드에서 실행 (한 트랜잭션은 한 샤드만 사용)
+    - @ShardKey 파라미터가 있으면 디렉터리에서 유저의 샤드를 찾고, 없는 유저면 쿼리 없이 빈 결과 반환
+      (샤딩 도입 전 유저는 시작할 때 디렉터리에 등록됨)
+    - 새 유저 저장은 이메일로 배치 샤드를 정하고 디렉터리에 등록
+    - 그 외에는 로그인한 유저의 샤드에서 실행
+    - @ShardFanOut 메서드는 모든 샤드에서 병렬로 실행 후 결과를 합침
+    - 쓰기는 트랜잭션 안에서 유저 행을 잠그고 펜스를 확인한 뒤 실행 (다른 샤드로 이동한 유저면 캐시를 지우고 SERVER_BUSY 로 거부)
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "sharding.enabled", havingValue = "true")
+public class ShardRoutingAspect {
+
+    private final ShardRouter shardRouter;
+    private final ShardDirectory shardDirectory;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // JdbcTemplate 은 JPA 트랜잭션과 같은 커넥션을 사용하도록 JPA 의 DataSource 로 생성
+    public ShardRoutingAspect(ShardRouter shardRouter, ShardDirectory shardDirectory, DataSource dataSource,
+                              PlatformTransactionManager transactionManager) {
+        this.shardRouter = shardRouter;
+        this.shardDirectory = shardDirectory;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Around("target(spharos.user.users.infrastructure.UserRepository) "
+            + "|| target(spharos.user.address.infrastructure.AddressRepository) "
+            + "|| target(spharos.user.address.infrastructure.UserAddressListRepository)")
+    public Object route(ProceedingJoinPoint joinPoint) throws Throwable {
+
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        if (method.getDeclaringClass() == Object.class) {
+            return joinPoint.proceed();
+        }
+
+        if (method.isAnnotationPresent(ShardFanOut.class)) {
+            return fanOut(joinPoint, method);
+        }
+
+        // 새 유저 저장
+        Object[] args = joinPoint.getArgs();
+        if (args.length == 1 && args[0] instanceof User user && user.getId() == null) {
+            return saveNewUser(joinPoint, user);
+        }
+
+        if (ShardContext.current() != null) {
+            return joinPoint.proceed();
+        }
+
+        Optional<ShardDirectory.Entry> entry = resolve(method, args);
+        if (entry.isEmpty()) {
+            return emptyResult(method.getReturnType());
+        }
+
+        int shard = entry.get().shard();
+        if (!isWrite(method)) {
+            return ShardContext.call(shard, () -> proceed(joinPoint));
+        }
+
+        // 트랜잭션 밖의 쓰기는 펜스 확인과 같은 트랜잭션에서 실행되도록 트랜잭션을 시작
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return transactionTemplate.execute(status -> ShardContext.call(shard, () -> {
+                checkNotFenced(entry.get().userId());
+                return proceed(joinPoint);
+            }));
+        }
+        return ShardContext.call(shard, () -> {
+            checkNotFenced(entry.get().userId());
+            return proceed(joinPoint);
+        });
+    }
+
+    /*
+        유저 행을 트랜잭션 끝까지 잠그고 펜스 확인
+        - 재배치는 같은 행을 잠근 뒤 복사하고 펜스를 남기므로, 잠금을 얻은 뒤 펜스가 없으면 이 트랜잭션의 쓰기는 복사에 포함됨
+     */
+    private void checkNotFenced(long userId) {
+        boolean present = !jdbcTemplate.queryForList("select id from user where id = ? for update",
+                Long.class, userId).isEmpty();
+        boolean fenced = !jdbcTemplate.queryForList("select user_id from user_shard_fence where user_id = ? for update",
+                Long.class, userId).isEmpty();
+        if (!present || fenced) {
+            shardDirectory.evict(userId);
+            throw new CustomException(ResponseCode.SERVER_BUSY);
+        }
+    }
+
+    // 호출 인자 또는 로그인한 유저로 유저의 디렉터리 정보 조회 (없는 유저면 empty)
+    private Optional<ShardDirectory.Entry> resolve(Method method, Object[] args) {
+
+        Annotation[][] parameterAnnotations = method.getParameterAnnotations();
+        for (int i = 0; i < parameterAnnotations.length; i++) {
+            for (Annotation annotation : parameterAnnotations[i]) {
+                if (annotation instanceof ShardKey shardKey) {
+                    return args[i] == null ? Optional.empty() : shardDirectory.find(shardKey.value(), args[i]);
+                }
+            }
+        }
+
+        if (args.length == 1 && args[0] instanceof User user) {
+            return shardDirectory.find(ShardKey.Type.USER_ID, user.getId());
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthUser authUser) {
+            return shardDirectory.find(ShardKey.Type.USER_ID, authUser.getUserId());
+        }
+
+        throw new IllegalStateException("cannot resolve shard for " + method.getDeclaringClass().getSimpleName()
+                + "." + method.getName());
+    }
+
+    private Object saveNewUser(ProceedingJoinPoint joinPoint, User user) {
+        int shard = shardRouter.placementFor(user.getEmail());
+        Integer current = ShardContext.current();
+        if (current != null && current != shard) {
+            throw new IllegalStateException("transaction is bound to shard " + current
+                    + " but new user belongs to shard " + shard);
+        }
+        return ShardContext.call(shard, () -> {
+            Object saved = proceed(joinPoint);
+            // id 는 저장 시점에 할당되므로 INSERT 전에 디렉터리에 등록 (롤백되면 등록 취소)
+            shardDirectory.registerAll(List.of(new ShardDirectory.NewEntry(user.getId(), user.getEmail(),
+                    user.getNickname(), user.getPhone(), shard)));
+            return saved;
+        });
+    }
+
+    private Object fanOut(ProceedingJoinPoint joinPoint, Method method) {
+        List<Object> results = shardRouter.fanOut(shard -> invoke(joinPoint, method));
+        List<Object> merged = new ArrayList<>();
+        for (Object result : results) {
+            merged.addAll((Collection<?>) result);
+        }
+        return merged;
+    }
+
+    private boolean isWrite(Method method) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        }
+        String name = method.getName();
+        return method.isAnnotationPresent(Modifying.class) || name.startsWith("save") || name.startsWith("delete");
+    }
+
+    // 샤드마다 별도 스레드에서 실행하므로 리포지토리를 직접 호출
+    private Object invoke(ProceedingJoinPoint joinPoint, Method method) {
+        try {
+            return method.invoke(joinPoint.getTarget(), joinPoint.getArgs());
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Object proceed(ProceedingJoinPoint joinPoint) {
+        try {
+            return joinPoint.proceed();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Object emptyResult(Class<?> returnType) {
+        if (returnType == Optional.class) {
+            return Optional.empty();
+        } else if (returnType == boolean.class || returnType == Boolean.class) {
+            return Boolean.FALSE;
+        } else if (returnType == int.class || returnType == Integer.class) {
+            return 0;
+        } else if (returnType == long.class || returnType == Long.class) {
+            return 0L;
+        } else if (List.class.isAssignableFrom(returnType) || returnType == Collection.class) {
+            return List.of();
+        } else if (returnType == Stream.class) {
+            return Stream.empty();
+        }
+        return null;
+    }
+
+}
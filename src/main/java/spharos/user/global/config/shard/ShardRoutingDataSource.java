@@ -0,0 +1,73 @@
+package spharos.user.global.config.shard;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.Getter;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import spharos.user.global.config.datasource.ReplicaRoutingDataSource;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+    샤드 라우팅 DataSource
+    - ShardContext 의 샤드로 보내고, 각 샤드 안에서는 ReplicaRoutingDataSource 가 primary/복제본을 고름
+    - 샤드가 정해지지 않은 커넥션(Flyway, 헬스체크 등)은 디렉터리가 있는 0번 샤드로 보냄
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    @Getter
+    private final List<Shard> shards;
+
+    public ShardRoutingDataSource(List<Shard> shards) {
+        this.shards = List.copyOf(shards);
+
+        Map<Object, Object> targets = new HashMap<>();
+        for (Shard shard : this.shards) {
+            targets.put(shard.getIndex(), shard.getDataSource());
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(this.shards.get(0).getDataSource());
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Integer shard = ShardContext.current();
+        return shard == null ? 0 : shard;
+    }
+
+    public Shard getShard(int index) {
+        return shards.get(index);
+    }
+
+    // 추가 샤드의 커넥션 풀 종료 (0번 샤드는 빈으로 등록되어 따로 종료됨)
+    @Override
+    public void close() {
+        shards.stream().skip(1).forEach(shard -> {
+            shard.getDataSource().close();
+            shard.getPrimary().close();
+        });
+    }
+
+    /*
+        샤드 하나의 DataSource
+        - primary 는 샤드 간 복사, 디렉터리 등 JDBC 로 직접 쓰는 작업에 사용
+     */
+    @Getter
+    public static class Shard {
+
+        private final int index;
+        private final HikariDataSource primary;
+        private final ReplicaRoutingDataSource dataSource;
+
+        public Shard(int index, HikariDataSource primary, ReplicaRoutingDataSource dataSource) {
+            this.index = index;
+            this.primary = primary;
+            this.dataSource = dataSource;
+        }
+
+    }
+
+}
@@ -0,0 +1,66 @@
+package spharos.user.global.config.shard;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/*
+    샤딩 운영용 엔드포인트
+    - GET  /actuator/sharding : 샤드별 유저 수, 이동 중인 유저 수 조회
+    - POST /actuator/sharding {"action": "backfill"} : 디렉터리에 없는 0번 샤드 유저 등록 (시작할 때 자동 실행되며,
+      모든 인스턴스에서 샤딩을 켠 뒤 샤딩을 끈 인스턴스가 저장한 유저를 등록하도록 한 번 더 실행), 이메일 충돌 보고
+    - POST /actuator/sharding {"action": "rebalance", "limit": 1000} : 샤드 추가 후 배치 샤드가 바뀐 유저를 백그라운드에서 이동
+      (진행 상황은 GET 의 rebalance 로 확인)
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "sharding")
+@ConditionalOnProperty(name = "sharding.enabled", havingValue = "true")
+public class ShardingEndpoint {
+
+    private static final int DEFAULT_REBALANCE_LIMIT = 1000;
+
+    private final ShardDirectory shardDirectory;
+    private final ShardRebalancer shardRebalancer;
+
+    @ReadOperation
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("users", shardDirectory.countByShard());
+        stats.put("moving", shardDirectory.countMoving());
+        stats.put("rebalance", rebalanceStatus());
+        return stats;
+    }
+
+    @WriteOperation
+    public Map<String, Object> execute(String action, @Nullable Integer limit) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        switch (action) {
+            case "backfill" -> {
+                ShardDirectory.BackfillResult backfill = shardDirectory.backfill();
+                result.put("registered", backfill.registered());
+                result.put("conflicts", backfill.conflicts());
+            }
+            case "rebalance" -> result.put("started",
+                    shardRebalancer.startRebalance(limit == null ? DEFAULT_REBALANCE_LIMIT : limit));
+            default -> throw new IllegalArgumentException("unknown action: " + action);
+        }
+        result.putAll(stats());
+        return result;
+    }
+
+    private Map<String, Object> rebalanceStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("running", shardRebalancer.isRunning());
+        status.put("lastRun", shardRebalancer.getLastRun());
+        return status;
+    }
+
+}
@@ -0,0 +1,112 @@
+package spharos.user.global.config.shard;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/*
+    유저 한 명의 행(user, address, user_address_list)을 샤드 간에 이동
+    - 복사는 대상 샤드의 같은 유저 행을 지우고 원본 행으로 다시 넣으므로 여러 번 실행해도 결과가 같음
+    - id 는 그대로 유지 (샤드마다 id_sequence 구간이 달라 샤드 간에 겹치지 않음)
+    - 복사가 끝나면 원본 샤드에 펜스를 남겨 이후 원본 쓰기를 거부하고, 원본 행은 펜스 보관 기간이 지난 뒤 삭제
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "sharding.enabled", havingValue = "true")
+public class UserShardMover {
+
+    // 생성 컬럼은 INSERT 할 수 없음
+    private static final String GENERATED_COLUMN = "default_user_id";
+
+    private final ShardRoutingDataSource shardRoutingDataSource;
+
+    /*
+        원본 유저 행을 잠가 진행 중인 쓰기 트랜잭션이 끝나기를 기다린 뒤 복사하고 같은 트랜잭션에서 펜스 기록
+        - 쓰기 트랜잭션은 시작할 때 같은 유저 행을 잠그고 펜스를 확인하므로 복사 이후 원본에 커밋되는 쓰기는 없음
+     */
+    public void copyAndFence(long userId, int from, int to) {
+        JdbcTemplate source = jdbcTemplate(from);
+        transactionTemplate(from).executeWithoutResult(status -> {
+            source.queryForList("select id from user where id = ? for update", Long.class, userId);
+            copy(source, userId, to);
+            source.update("insert ignore into user_shard_fence (user_id, fenced_at) values (?, ?)",
+                    userId, Timestamp.from(Instant.now()));
+        });
+    }
+
+    // 펜스가 before 이전에 기록된 유저의 원본 행과 펜스 삭제 후 삭제한 유저 수 반환
+    public int purgeFenced(int shard, Instant before) {
+        JdbcTemplate jdbcTemplate = jdbcTemplate(shard);
+        List<Long> userIds = jdbcTemplate.queryForList("select user_id from user_shard_fence where fenced_at < ?",
+                Long.class, Timestamp.from(before));
+        for (Long userId : userIds) {
+            transactionTemplate(shard).executeWithoutResult(status -> {
+                deleteRows(jdbcTemplate, userId);
+                jdbcTemplate.update("delete from user_shard_fence where user_id = ?", userId);
+            });
+        }
+        return userIds.size();
+    }
+
+    private void copy(JdbcTemplate source, long userId, int to) {
+        List<Map<String, Object>> users = source.queryForList("select * from user where id = ?", userId);
+        List<Map<String, Object>> addresses = source.queryForList("select a.* from address a "
+                + "join user_address_list ual on ual.address_id = a.id where ual.user_id = ?", userId);
+        List<Map<String, Object>> userAddresses = source.queryForList(
+                "select * from user_address_list where user_id = ?", userId);
+
+        // 예전에 이 샤드에서 나갔다가 돌아오는 유저면 남아 있는 펜스도 제거
+        JdbcTemplate target = jdbcTemplate(to);
+        transactionTemplate(to).executeWithoutResult(status -> {
+            deleteRows(target, userId);
+            target.update("delete from user_shard_fence where user_id = ?", userId);
+            insertRows(target, "user", users);
+            insertRows(target, "address", addresses);
+            insertRows(target, "user_address_list", userAddresses);
+        });
+    }
+
+    private void deleteRows(JdbcTemplate jdbcTemplate, long userId) {
+        List<Long> addressIds = jdbcTemplate.queryForList(
+                "select address_id from user_address_list where user_id = ?", Long.class, userId);
+        jdbcTemplate.update("delete from user_address_list where user_id = ?", userId);
+        for (Long addressId : addressIds) {
+            jdbcTemplate.update("delete from address where id = ?", addressId);
+        }
+        jdbcTemplate.update("delete from user where id = ?", userId);
+    }
+
+    private void insertRows(JdbcTemplate jdbcTemplate, String table, List<Map<String, Object>> rows) {
+        for (Map<String, Object> row : rows) {
+            List<String> columns = row.keySet().stream()
+                    .filter(column -> !GENERATED_COLUMN.equalsIgnoreCase(column))
+                    .toList();
+            jdbcTemplate.update("insert into " + table + " (" + String.join(", ", columns) + ") values ("
+                            + columns.stream().map(column -> "?").collect(Collectors.joining(", ")) + ")",
+                    columns.stream().map(row::get).toArray());
+        }
+    }
+
+    private JdbcTemplate jdbcTemplate(int shard) {
+        return new JdbcTemplate(shardRoutingDataSource.getShard(shard).getPrimary());
+    }
+
+    // 대상 샤드 복사는 원본 샤드 트랜잭션 안에서 실행되므로 항상 새 트랜잭션으로 실행
+    private TransactionTemplate transactionTemplate(int shard) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(
+                new DataSourceTransactionManager(shardRoutingDataSource.getShard(shard).getPrimary()));
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return transactionTemplate;
+    }
+
+}
@@ -0,0 +1,95 @@
+package spharos.user.global.config.thread;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/*
+    작업마다 가상 스레드를 만들고, 동시에 처리 중인 작업 수만 capacity 로 제한하는 실행기
+    - 고정 스레드풀(poolSize + 대기열)과 같은 수의 작업을 받되, 대기열에서 기다리지 않고 바로 시작
+    - capacity 를 넘으면 ThreadPoolExecutor.AbortPolicy 처럼 RejectedExecutionException
+ */
+class BoundedVirtualThreadExecutor extends AbstractExecutorService {
+
+    private final ThreadFactory threadFactory;
+    private final int capacity;
+    private final Semaphore permits;
+    private final Set<Thread> running = ConcurrentHashMap.newKeySet();
+    private volatile boolean shutdown;
+
+    BoundedVirtualThreadExecutor(ThreadFactory threadFactory, int capacity) {
+        this.threadFactory = threadFactory;
+        this.capacity = capacity;
+        this.permits = new Semaphore(capacity);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (shutdown) {
+            throw new RejectedExecutionException("executor has been shut down");
+        }
+        if (!permits.tryAcquire()) {
+            throw new RejectedExecutionException("executor is at capacity. capacity=" + capacity);
+        }
+
+        try {
+            threadFactory.newThread(() -> {
+                running.add(Thread.currentThread());
+                try {
+                    command.run();
+                } finally {
+                    running.remove(Thread.currentThread());
+                    permits.release();
+                }
+            }).start();
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    // 처리 중인 작업 수
+    int getActiveCount() {
+        return capacity - permits.availablePermits();
+    }
+
+    @Override
+    public void shutdown() {
+        shutdown = true;
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        shutdown = true;
+        running.forEach(Thread::interrupt);
+        return List.of();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return shutdown && getActiveCount() == 0;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!isTerminated()) {
+            if (System.nanoTime() >= deadline) {
+                return false;
+            }
+            Thread.sleep(10L);
+        }
+        return true;
+    }
+
+}
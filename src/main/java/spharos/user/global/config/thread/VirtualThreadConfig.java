@@ -0,0 +1,31 @@
+package spharos.user.global.config.thread;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/*
+    요청 처리를 가상 스레드로 실행 (virtual-threads.enabled=true, virtual 프로파일)
+    - Tomcat 요청 처리 스레드풀을 요청마다 가상 스레드를 만드는 실행기로 바꿈 (동시 요청 수는 server.tomcat.max-connections 로 제한)
+    - JVM 이 지원하지 않으면 기존 Tomcat 스레드풀 유지
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> {
+            if (!VirtualThreads.isSupported()) {
+                log.warn("virtual threads are not supported by this JVM ({}). using tomcat thread pool",
+                        Runtime.version());
+                return;
+            }
+            protocolHandler.setExecutor(VirtualThreads.newThreadPerTaskExecutor("tomcat-handler"));
+        };
+    }
+
+}
@@ -0,0 +1,59 @@
+package spharos.user.global.config.thread;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/*
+    가상 스레드 생성 (JDK 21 이상)
+    - 빌드는 Java 17 기준이므로 Thread.ofVirtual(), Executors.newThreadPerTaskExecutor() 를 리플렉션으로 호출
+    - 실행 중인 JVM 이 지원하지 않으면 isSupported() 가 false
+ */
+public final class VirtualThreads {
+
+    private static final boolean SUPPORTED = detect();
+
+    private VirtualThreads() {
+    }
+
+    public static boolean isSupported() {
+        return SUPPORTED;
+    }
+
+    // 이름이 prefix-1, prefix-2 ... 인 가상 스레드 팩토리
+    public static ThreadFactory factory(String prefix) {
+        try {
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, prefix + "-", 1L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException("virtual threads are not supported by this JVM", e);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    // 작업마다 새 가상 스레드를 만드는 실행기 (스레드 수 제한 없음)
+    public static ExecutorService newThreadPerTaskExecutor(String prefix) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, factory(prefix));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException("virtual threads are not supported by this JVM", e);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static boolean detect() {
+        try {
+            Thread.class.getMethod("ofVirtual");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+}
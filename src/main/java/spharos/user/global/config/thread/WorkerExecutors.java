@@ -0,0 +1,68 @@
+package spharos.user.global.config.thread;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+    내부 동시 실행용 스레드풀 생성 (마이페이지 부트스트랩, 인증 API, 샤드 fan-out)
+    - 기본은 고정 크기 스레드풀 + 제한된 대기열
+    - virtual-threads.enabled=true 이고 JVM 이 지원하면 작업마다 가상 스레드를 만들고 동시 작업 수만 poolSize + 대기열 크기로 제한
+      (블로킹 JDBC/Redis 호출로 스레드가 묶여도 처리량이 스레드 수에 막히지 않음, DB 동시 사용은 커넥션 permit 으로 제한)
+    - 비밀번호 해시처럼 CPU 를 쓰는 작업은 이 클래스를 쓰지 않고 CPU 수에 맞춘 플랫폼 스레드풀을 유지
+    - metricName 을 주면 <metricName>.queue.size, <metricName>.active 게이지 등록
+ */
+@Slf4j
+@Component
+public class WorkerExecutors {
+
+    private final boolean virtual;
+
+    public WorkerExecutors(@Value("${virtual-threads.enabled}") boolean enabled) {
+        this.virtual = enabled && VirtualThreads.isSupported();
+        if (enabled && !virtual) {
+            log.warn("virtual threads are not supported by this JVM ({}). using platform thread pools",
+                    Runtime.version());
+        }
+    }
+
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    public ExecutorService create(String threadName, int poolSize, int queueCapacity,
+                                  String metricName, MeterRegistry meterRegistry) {
+        if (virtual) {
+            BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor(
+                    VirtualThreads.factory(threadName), poolSize + queueCapacity);
+            if (metricName != null) {
+                meterRegistry.gauge(metricName + ".queue.size", executor, e -> 0);
+                meterRegistry.gauge(metricName + ".active", executor, BoundedVirtualThreadExecutor::getActiveCount);
+            }
+            return executor;
+        }
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, threadName + "-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        if (metricName != null) {
+            meterRegistry.gauge(metricName + ".queue.size", executor, e -> e.getQueue().size());
+            meterRegistry.gauge(metricName + ".active", executor, ThreadPoolExecutor::getActiveCount);
+        }
+        return executor;
+    }
+
+}
@@ -1,19 +1,36 @@
 package spharos.user.global.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
 import spharos.user.global.common.response.ErrorResponse;
 import spharos.user.global.common.response.ResponseCode;
 
+import java.time.Duration;
+
 @Slf4j
 @RestControllerAdvice
 public class GlobalExceptionController {
 
+    // 503 응답에 담는 재시도 대기 시간 (초)
+    private final String retryAfterSeconds;
+
+    public GlobalExceptionController(@Value("${server-busy.retry-after}") Duration retryAfter) {
+        this.retryAfterSeconds = String.valueOf(Math.max(1L, retryAfter.toSeconds()));
+    }
+
     @ExceptionHandler(value = { CustomException.class })
     public ResponseEntity<?> customExHandle(CustomException e) {
+        // 과부하로 거절한 요청은 스택트레이스 없이 기록 (몰릴 때 로그가 더 부하가 되지 않도록)
+        if (e.getResponseCode() == ResponseCode.SERVER_BUSY) {
+            log.warn("[exceptionHandle] server busy");
+            return serverBusy();
+        }
         log.error("[exceptionHandle] ex", e);
         return ErrorResponse.toResponseEntity(e.getResponseCode());
     }
@@ -25,12 +42,20 @@ public class GlobalExceptionController {
 //    }
 
     /*
-        아이디가 없거나 비밀번호가 틀린 경우 AuthenticationManager 에서 발생
+        비동기 API 가 spring.mvc.async.request-timeout 안에 끝나지 않은 경우
      */
-    @ExceptionHandler(BadCredentialsException.class)
-    public ResponseEntity<ErrorResponse> loginExHandle(BadCredentialsException e) {
-        return ErrorResponse.toResponseEntity(ResponseCode.LOGIN_FAIL);
+    @ExceptionHandler(AsyncRequestTimeoutException.class)
+    public ResponseEntity<ErrorResponse> asyncTimeoutExHandle(AsyncRequestTimeoutException e) {
+        log.warn("[exceptionHandle] async request timeout");
+        return serverBusy();
     }
 
+    // 503 + Retry-After
+    private ResponseEntity<ErrorResponse> serverBusy() {
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, retryAfterSeconds)
+                .body(ErrorResponse.of(ResponseCode.SERVER_BUSY));
+    }
 
 }
@@ -0,0 +1,13 @@
+package spharos.user.users.application;
+
+import spharos.user.global.config.security.AuthUser;
+import spharos.user.users.vo.response.MypageBootstrapResponse;
+
+import java.util.Set;
+
+public interface MypageBootstrapService {
+
+    // 마이페이지 부트스트랩 조회 (회원정보, 주소리스트, 대표주소 중 요청한 항목)
+    MypageBootstrapResponse getBootstrap(AuthUser authUser, Set<MypagePart> parts);
+
+}
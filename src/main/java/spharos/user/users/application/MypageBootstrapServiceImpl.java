@@ -0,0 +1,141 @@
+package spharos.user.users.application;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+import org.springframework.stereotype.Service;
+import spharos.user.address.application.AddressService;
+import spharos.user.address.vo.AddressDefaultResponse;
+import spharos.user.address.vo.AddressResponse;
+import spharos.user.global.config.security.AuthUser;
+import spharos.user.global.config.thread.WorkerExecutors;
+import spharos.user.global.exception.CustomException;
+import spharos.user.users.vo.response.MypageBootstrapResponse;
+import spharos.user.users.vo.response.UserInformationResponse;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/*
+    마이페이지 부트스트랩 조회
+    - 유저는 토큰(AuthUser)으로 한 번만 확인하고, 요청한 항목을 고정 크기 스레드풀에서 동시에 조회
+    - 주소 조회는 토큰의 userId 로 바로 조회하므로 회원정보 조회(이메일로 유저 조회)를 기다리지 않음
+    - 항목별로 part-timeout 안에 끝나지 않거나 실패하면 해당 항목만 비우고 failedParts 에 사유를 담아 나머지는 그대로 응답
+    - 대기열이 가득 차면 해당 항목은 REJECTED (요청 스레드에서 대신 실행하지 않음)
+    - 인증정보(SecurityContext)를 작업 스레드로 전달 (샤드, 복제본 라우팅이 AuthUser 를 사용)
+ */
+@Slf4j
+@Service
+public class MypageBootstrapServiceImpl implements MypageBootstrapService {
+
+    private final UserService userService;
+    private final AddressService addressService;
+    private final ExecutorService executor;
+    private final Duration partTimeout;
+    private final MeterRegistry meterRegistry;
+
+    public MypageBootstrapServiceImpl(UserService userService,
+                                      AddressService addressService,
+                                      @Value("${mypage-bootstrap.pool-size}") int poolSize,
+                                      @Value("${mypage-bootstrap.queue-capacity}") int queueCapacity,
+                                      @Value("${mypage-bootstrap.part-timeout}") Duration partTimeout,
+                                      WorkerExecutors workerExecutors,
+                                      MeterRegistry meterRegistry) {
+        this.userService = userService;
+        this.addressService = addressService;
+        this.partTimeout = partTimeout;
+        this.meterRegistry = meterRegistry;
+
+        this.executor = workerExecutors.create("mypage-bootstrap", poolSize, queueCapacity,
+                "mypage.bootstrap", meterRegistry);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public MypageBootstrapResponse getBootstrap(AuthUser authUser, Set<MypagePart> parts) {
+
+        // 요청 스레드의 인증정보를 작업 스레드로 전달
+        DelegatingSecurityContextExecutor contextExecutor = new DelegatingSecurityContextExecutor(executor);
+
+        Map<MypagePart, CompletableFuture<?>> futures = new EnumMap<>(MypagePart.class);
+        Map<String, String> failedParts = new LinkedHashMap<>();
+        for (MypagePart part : parts) {
+            try {
+                futures.put(part, CompletableFuture.supplyAsync(loader(part, authUser), contextExecutor));
+            } catch (RejectedExecutionException e) {
+                fail(failedParts, part, "REJECTED");
+            }
+        }
+
+        // 모든 항목이 같은 기한을 공유 (항목 수만큼 기다리는 시간이 늘어나지 않음)
+        long deadline = System.nanoTime() + partTimeout.toNanos();
+        MypageBootstrapResponse.MypageBootstrapResponseBuilder builder = MypageBootstrapResponse.builder();
+        for (Map.Entry<MypagePart, CompletableFuture<?>> entry : futures.entrySet()) {
+            Object result = await(entry.getKey(), entry.getValue(), deadline, failedParts);
+            if (result == null) {
+                continue;
+            }
+            switch (entry.getKey()) {
+                case INFO -> builder.info((UserInformationResponse) result);
+                case ADDRESS -> builder.address((List<AddressResponse>) result);
+                case DEFAULT_ADDRESS -> builder.defaultAddress((AddressDefaultResponse) result);
+            }
+        }
+
+        return builder
+                .failedParts(failedParts.isEmpty() ? null : failedParts)
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private Supplier<?> loader(MypagePart part, AuthUser authUser) {
+        return switch (part) {
+            case INFO -> () -> userService.getUserInformation(authUser.getEmail());
+            case ADDRESS -> () -> addressService.getAddressList(authUser.getUserId());
+            case DEFAULT_ADDRESS -> () -> addressService.getDefaultAddress(authUser.getUserId());
+        };
+    }
+
+    private Object await(MypagePart part, CompletableFuture<?> future, long deadline, Map<String, String> failedParts) {
+        try {
+            return future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            fail(failedParts, part, "TIMEOUT");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(failedParts, part, "TIMEOUT");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CustomException customException) {
+                fail(failedParts, part, customException.getResponseCode().name());
+            } else {
+                log.error("mypage bootstrap part failed. part={}", part.getField(), e.getCause());
+                fail(failedParts, part, "ERROR");
+            }
+        }
+        return null;
+    }
+
+    private void fail(Map<String, String> failedParts, MypagePart part, String reason) {
+        failedParts.put(part.getField(), reason);
+        meterRegistry.counter("mypage.bootstrap.part.failed", "part", part.getField(), "reason", reason).increment();
+    }
+
+}
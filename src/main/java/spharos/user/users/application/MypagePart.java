@@ -0,0 +1,40 @@
+package spharos.user.users.application;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import spharos.user.global.common.response.ResponseCode;
+import spharos.user.global.exception.CustomException;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+// 마이페이지 부트스트랩 조회 항목 (fields 파라미터 값)
+@Getter
+@AllArgsConstructor
+public enum MypagePart {
+
+    INFO("info"),
+    ADDRESS("address"),
+    DEFAULT_ADDRESS("defaultAddress");
+
+    private final String field;
+
+    // fields 파라미터 변환 (비어 있으면 전체, 알 수 없는 값은 INVALID_REQUEST_BODY)
+    public static Set<MypagePart> fromFields(Collection<String> fields) {
+        if (fields == null || fields.isEmpty()) {
+            return EnumSet.allOf(MypagePart.class);
+        }
+
+        Set<MypagePart> parts = EnumSet.noneOf(MypagePart.class);
+        for (String field : fields) {
+            parts.add(Arrays.stream(values())
+                    .filter(part -> part.field.equals(field.trim()))
+                    .findFirst()
+                    .orElseThrow(() -> new CustomException(ResponseCode.INVALID_REQUEST_BODY)));
+        }
+        return parts;
+    }
+
+}
@@ -2,9 +2,16 @@ package spharos.user.users.application;
 
 import spharos.user.users.dto.ReviewWriterDto;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
 
 public interface ReviewService {
-    List<ReviewWriterDto> retrieveReviewWriter(List<String> userEmail);
+
+    // 리뷰 작성자 정보 조회 (includeUnknown 이 true 이면 존재하지 않는 이메일 자리에 null 을 채움)
+    List<ReviewWriterDto> retrieveReviewWriter(List<String> userEmail, boolean includeUnknown);
+    // 리뷰 작성자 정보 스트리밍 조회 (이메일 JSON 배열을 읽어 NDJSON 으로 씀)
+    void streamReviewWriter(InputStream emailStream, OutputStream writerStream) throws IOException;
 
 }
@@ -1,36 +1,168 @@
 package spharos.user.users.application;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import spharos.user.users.domain.User;
+import org.springframework.transaction.annotation.Transactional;
+import spharos.user.global.common.response.ErrorResponse;
+import spharos.user.global.common.response.ResponseCode;
+import spharos.user.global.exception.CustomException;
 import spharos.user.users.dto.ReviewWriterDto;
 import spharos.user.users.infrastructure.UserRepository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ReviewServiceImpl implements ReviewService{
 
+    // IN 절 한 번에 담을 이메일 수 (스트리밍 조회시 청크 크기)
+    private static final int EMAIL_CHUNK_SIZE = 1000;
+    private static final byte NDJSON_DELIMITER = '\n';
+
     private final UserRepository userRepository;
+    private final ReviewWriterCache reviewWriterCache;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReviewWriterDto> retrieveReviewWriter(List<String> userEmail, boolean includeUnknown) {
+
+        // 중복 이메일 제거 (요청 순서는 유지)
+        List<String> emails = distinct(userEmail);
+
+        Map<String, ReviewWriterDto> writers = findWriters(emails);
+
+        // 요청 순서대로 결과 정렬, 존재하지 않는 이메일은 요청시에만 null 로 채움
+        List<ReviewWriterDto> result = new ArrayList<>(emails.size());
+        for (String email : emails) {
+            ReviewWriterDto writer = writers.get(email);
+            if (writer != null || includeUnknown) {
+                result.add(writer);
+            }
+        }
+
+        return result;
+    }
+
+    /*
+        리뷰 작성자 스트리밍 조회
+        - 첫 청크는 끝까지 읽고 검증한 뒤에 쓰므로, 본문이 첫 청크 안에서 잘못되면 아무것도 쓰지 않고 CustomException
+        - 응답을 쓰기 시작한 뒤(첫 flush 로 커밋됨)의 오류는 마지막 줄에 에러 레코드(ErrorResponse)를 쓰고 끝냄
+     */
     @Override
-    public List<ReviewWriterDto> retrieveReviewWriter(List<String> userEmail) {
+    public void streamReviewWriter(InputStream emailStream, OutputStream writerStream) throws IOException {
+
+        ObjectWriter writer = objectMapper.writerFor(ReviewWriterDto.class);
+        boolean started = false;
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(emailStream)) {
+
+            // 요청 본문은 이메일 문자열 배열이어야 함
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new CustomException(ResponseCode.INVALID_REQUEST_BODY);
+            }
+
+            // 이메일을 청크 크기만큼만 메모리에 올려서 조회 후 바로 응답에 씀
+            List<String> chunk = new ArrayList<>(EMAIL_CHUNK_SIZE);
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == JsonToken.VALUE_STRING) {
+                    chunk.add(parser.getText());
+                } else if (token != JsonToken.VALUE_NULL) {
+                    // 배열이 끝나기 전에 본문이 끝난 경우(null) 포함
+                    throw new CustomException(ResponseCode.INVALID_REQUEST_BODY);
+                }
 
-            List<User> users = userEmail.stream()
-                .map(userRepository::findByEmail)
-                .filter(Optional::isPresent)
-                .map(Optional::get)
+                if (chunk.size() == EMAIL_CHUNK_SIZE) {
+                    started = true;
+                    writeChunk(chunk, writer, writerStream);
+                    chunk.clear();
+                }
+            }
+            started = true;
+            writeChunk(chunk, writer, writerStream);
+
+        } catch (CustomException | JsonProcessingException e) {
+            ResponseCode responseCode = e instanceof CustomException customException
+                    ? customException.getResponseCode() : ResponseCode.INVALID_REQUEST_BODY;
+            if (!started) {
+                throw new CustomException(responseCode);
+            }
+            writeError(responseCode, writerStream);
+        } catch (RuntimeException e) {
+            if (!started) {
+                throw e;
+            }
+            log.error("review writer stream failed", e);
+            writeError(ResponseCode.INTERNAL_SERVER_ERROR, writerStream);
+        }
+    }
+
+    // 응답을 쓰기 시작한 뒤의 오류를 마지막 줄에 씀 (작성자 정보와는 success 필드로 구분)
+    private void writeError(ResponseCode responseCode, OutputStream writerStream) throws IOException {
+        writerStream.write(objectMapper.writeValueAsBytes(ErrorResponse.of(responseCode)));
+        writerStream.write(NDJSON_DELIMITER);
+        writerStream.flush();
+    }
+
+    // 청크에 해당하는 작성자 정보를 한 줄에 하나씩 NDJSON 으로 씀
+    private void writeChunk(List<String> chunk, ObjectWriter writer, OutputStream writerStream) throws IOException {
+
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        List<String> emails = distinct(chunk);
+        Map<String, ReviewWriterDto> writers = findWriters(emails);
+        for (String email : emails) {
+            ReviewWriterDto reviewWriter = writers.get(email);
+            if (reviewWriter != null) {
+                writerStream.write(writer.writeValueAsBytes(reviewWriter));
+                writerStream.write(NDJSON_DELIMITER);
+            }
+        }
+        writerStream.flush();
+    }
+
+    // 캐시 -> DB 순으로 작성자 정보 조회
+    private Map<String, ReviewWriterDto> findWriters(List<String> emails) {
+
+        // 로컬 캐시에서 먼저 조회
+        Map<String, ReviewWriterDto> writers = new HashMap<>(reviewWriterCache.getAllPresent(emails));
+        List<String> missedEmails = emails.stream()
+                .filter(email -> !writers.containsKey(email))
                 .toList();
 
-            return users.stream()
-                    .map(user -> ReviewWriterDto.builder()
-                            .email(user.getEmail())
-                            .userId(user.getId())
-                            .nickname(user.getNickname())
-                            .ImgUrl(user.getProfileImageUrl())
-                            .build())
-                    .toList();
+        // 캐시에 없는 이메일만 청크 단위 IN 쿼리로 조회 후 캐시에 저장
+        for (int from = 0; from < missedEmails.size(); from += EMAIL_CHUNK_SIZE) {
+            List<String> chunk = missedEmails.subList(from, Math.min(from + EMAIL_CHUNK_SIZE, missedEmails.size()));
+            for (ReviewWriterDto writer : userRepository.findReviewWritersByEmailIn(chunk)) {
+                writers.put(writer.getEmail(), writer);
+                reviewWriterCache.put(writer);
+            }
+        }
+
+        return writers;
+    }
+
+    // 중복 및 null 이메일 제거 (순서 유지)
+    private List<String> distinct(List<String> emails) {
+        LinkedHashSet<String> distinctEmails = new LinkedHashSet<>(emails);
+        distinctEmails.remove(null);
+        return new ArrayList<>(distinctEmails);
     }
 }
@@ -0,0 +1,61 @@
+package spharos.user.users.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import spharos.user.users.dto.ReviewWriterDto;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+
+/*
+    리뷰 작성자 프로필 카드 로컬 캐시
+    - 크기, TTL 기준으로 제거되며 hit/miss/eviction 수치는 /actuator/metrics 의 cache.* 로 확인
+    - 제거된 작성자는 put-block-window 동안 다시 저장하지 않음 (지연된 복제본에서 읽은 변경 전 프로필이 캐시되는 것을 막음)
+ */
+@Component
+public class ReviewWriterCache {
+
+    private final Cache<String, ReviewWriterDto> cache;
+    private final Cache<String, Boolean> recentlyEvicted;
+
+    public ReviewWriterCache(@Value("${review-writer.cache.maximum-size}") long maximumSize,
+                             @Value("${review-writer.cache.ttl}") Duration ttl,
+                             @Value("${review-writer.cache.put-block-window}") Duration putBlockWindow,
+                             MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.recentlyEvicted = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(putBlockWindow)
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "reviewWriter");
+    }
+
+    // 캐시에 존재하는 작성자 정보만 조회
+    public Map<String, ReviewWriterDto> getAllPresent(Collection<String> emails) {
+        return cache.getAllPresent(emails);
+    }
+
+    // 작성자 정보 저장 (최근에 제거된 작성자는 저장하지 않음)
+    public void put(ReviewWriterDto writer) {
+        if (recentlyEvicted.getIfPresent(writer.getEmail()) != null) {
+            return;
+        }
+        cache.put(writer.getEmail(), writer);
+    }
+
+    // 작성자 정보 제거
+    public void evict(String email) {
+        recentlyEvicted.put(email, Boolean.TRUE);
+        cache.invalidate(email);
+    }
+
+}
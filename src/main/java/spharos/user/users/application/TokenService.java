@@ -0,0 +1,15 @@
+package spharos.user.users.application;
+
+import spharos.user.users.domain.User;
+import spharos.user.users.vo.response.UserTokenResponse;
+
+public interface TokenService {
+
+    // 리프레시 토큰 발급 (기기별 토큰 패밀리 생성)
+    String issueRefreshToken(User user, String deviceId);
+    // 리프레시 토큰 회전 (Access 토큰 재발급)
+    UserTokenResponse refresh(String refreshToken);
+    // 유저의 모든 리프레시 토큰 폐기
+    void revokeAll(String email);
+
+}
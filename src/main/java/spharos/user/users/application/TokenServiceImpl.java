@@ -0,0 +1,125 @@
+package spharos.user.users.application;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import spharos.user.global.common.response.ResponseCode;
+import spharos.user.global.config.security.JwtTokenProvider;
+import spharos.user.global.config.security.TokenClaims;
+import spharos.user.global.exception.CustomException;
+import spharos.user.users.domain.User;
+import spharos.user.users.infrastructure.RefreshTokenRepository;
+import spharos.user.users.infrastructure.UserRepository;
+import spharos.user.users.vo.response.UserTokenResponse;
+
+import java.util.UUID;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class TokenServiceImpl implements TokenService {
+
+    // 기기 id 를 보내지 않는 클라이언트는 하나의 패밀리를 공유
+    private static final String UNKNOWN_DEVICE = "unknown";
+    private static final int MAX_DEVICE_ID_LENGTH = 48;
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+
+    // 리프레시 토큰 발급 (기기별 토큰 패밀리 생성)
+    @Override
+    public String issueRefreshToken(User user, String deviceId) {
+
+        UUID familyId = UUID.randomUUID();
+        String refreshToken = jwtTokenProvider.generateRefreshToken(user, familyId.toString(),
+                UUID.randomUUID().toString());
+
+        long ttl = jwtTokenProvider.getRefreshExpirationTime();
+        refreshTokenRepository.saveFamily(user.getEmail(), familyId, normalizeDeviceId(deviceId), refreshToken,
+                System.currentTimeMillis() + ttl, ttl);
+
+        return refreshToken;
+    }
+
+    // 리프레시 토큰 회전 (Access 토큰 재발급)
+    @Override
+    public UserTokenResponse refresh(String refreshToken) {
+
+        // 토큰 검증
+        TokenClaims claims = jwtTokenProvider.parse(refreshToken);
+        if(claims.getTokenType() == null && claims.getFamilyId() == null) {
+            return refreshLegacy(claims, refreshToken);
+        }
+        if(!JwtTokenProvider.REFRESH_TOKEN.equals(claims.getTokenType()) || claims.getFamilyId() == null) {
+            throw new CustomException(ResponseCode.INVALID_TOKEN);
+        }
+
+        UUID familyId;
+        try {
+            familyId = UUID.fromString(claims.getFamilyId());
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ResponseCode.INVALID_TOKEN);
+        }
+
+        // 현재 토큰을 새 토큰으로 교체 (이미 사용된 토큰이면 패밀리 전체가 폐기됨)
+        String newRefreshToken = jwtTokenProvider.generateRefreshToken(claims, UUID.randomUUID().toString());
+        long ttl = jwtTokenProvider.getRefreshExpirationTime();
+        RefreshTokenRepository.RotationResult result = refreshTokenRepository.rotate(claims.getEmail(), familyId,
+                refreshToken, newRefreshToken, System.currentTimeMillis() + ttl, ttl);
+
+        if(result == RefreshTokenRepository.RotationResult.REUSED) {
+            log.warn("refresh token reuse detected. email={}, familyId={}", claims.getEmail(), claims.getFamilyId());
+            throw new CustomException(ResponseCode.REUSED_REFRESH_TOKEN);
+        } else if(result == RefreshTokenRepository.RotationResult.UNKNOWN) {
+            throw new CustomException(ResponseCode.INVALID_TOKEN);
+        }
+
+        return UserTokenResponse.builder()
+                .token(jwtTokenProvider.generateToken(claims))
+                .refreshToken(newRefreshToken)
+                .build();
+    }
+
+    // 기존 형식 토큰(타입, 패밀리 클레임 없이 이메일 키에 저장된 토큰)은 한 번 사용하면 새 패밀리로 교체
+    private UserTokenResponse refreshLegacy(TokenClaims claims, String refreshToken) {
+
+        if(!refreshTokenRepository.consumeLegacy(claims.getEmail(), refreshToken)) {
+            throw new CustomException(ResponseCode.INVALID_TOKEN);
+        }
+
+        User user = userRepository.findByEmail(claims.getEmail())
+                .orElseThrow(() -> new CustomException(ResponseCode.INVALID_TOKEN));
+
+        return UserTokenResponse.builder()
+                .token(jwtTokenProvider.generateToken(user))
+                .refreshToken(issueRefreshToken(user, null))
+                .build();
+    }
+
+    // 유저의 모든 리프레시 토큰 폐기 - 트랜잭션 안이면 커밋 후 (롤백되면 토큰을 그대로 둠)
+    @Override
+    public void revokeAll(String email) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refreshTokenRepository.deleteAll(email);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refreshTokenRepository.deleteAll(email);
+            }
+        });
+    }
+
+    // 기기 id 는 저장 크기를 제한하기 위해 최대 48자까지만 사용 (UTF-8 로 255바이트 이내)
+    private String normalizeDeviceId(String deviceId) {
+        if(deviceId == null || deviceId.isBlank()) {
+            return UNKNOWN_DEVICE;
+        }
+        return deviceId.length() > MAX_DEVICE_ID_LENGTH ? deviceId.substring(0, MAX_DEVICE_ID_LENGTH) : deviceId;
+    }
+
+}
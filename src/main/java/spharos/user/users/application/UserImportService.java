@@ -0,0 +1,14 @@
+package spharos.user.users.application;
+
+import spharos.user.users.dto.UserImportResultDto;
+import spharos.user.users.infrastructure.UserImportReader;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+public interface UserImportService {
+
+    // 파일에서 유저 대량 가져오기 (체크포인트가 있으면 이어서 처리)
+    UserImportResultDto importUsers(Path file, UserImportReader.Format format) throws IOException;
+
+}
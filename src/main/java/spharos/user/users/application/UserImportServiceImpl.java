@@ -0,0 +1,360 @@
+package spharos.user.users.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import spharos.user.address.domain.Address;
+import spharos.user.address.domain.UserAddressList;
+import spharos.user.global.config.security.PasswordHashingEngine;
+import spharos.user.global.config.shard.ShardContext;
+import spharos.user.global.config.shard.ShardDirectory;
+import spharos.user.global.config.shard.ShardRouter;
+import spharos.user.users.domain.DefaultAddress;
+import spharos.user.users.domain.User;
+import spharos.user.users.dto.UserImportRecordDto;
+import spharos.user.users.dto.UserImportResultDto;
+import spharos.user.users.dto.UserKeyDto;
+import spharos.user.users.infrastructure.UserImportCheckpoint;
+import spharos.user.users.infrastructure.UserImportReader;
+import spharos.user.users.infrastructure.UserRepository;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+/*
+    유저 대량 가져오기
+    - 파일을 chunk-size 단위로 읽어 청크마다 검증 -> 중복 제거 -> 병렬 해시 -> 배치 INSERT -> 커밋 -> 체크포인트 순으로 처리
+    - 중복 제거 : 청크 안의 중복은 메모리에서, 기존 유저와의 중복은 청크당 한 번의 IN 쿼리로 확인
+    - 해시 : 요청용 해시 스레드풀과 분리된 ForkJoinPool 에서 병렬로 실행, passwordHash 가 있으면 그대로 사용
+    - 저장 : 청크 하나가 한 트랜잭션(샤딩 사용시 샤드별 한 트랜잭션)이며, 세션의 JDBC 배치 크기를 청크 크기로 맞춰 테이블별 배치 INSERT
+      - 중복 확인 후 가입한 유저와 겹쳐 유니크 제약에 걸리면 해당 트랜잭션의 레코드를 한 건씩 다시 저장하고 걸린 레코드만 거절
+    - 재시작 : 저장 중에 중단된 청크를 다시 처리할 때 이메일, 닉네임이 모두 같은 유저가 있으면 이미 저장된 것으로 보고 거절하지 않음
+    - 거절된 레코드는 <입력 파일>.rejects 에 줄 번호와 사유를 NDJSON 으로 기록
+ */
+@Slf4j
+@Service
+public class UserImportServiceImpl implements UserImportService {
+
+    private final UserRepository userRepository;
+    private final PasswordHashingEngine passwordHashingEngine;
+    private final UserKeyFilter userKeyFilter;
+    private final ShardRouter shardRouter;
+    private final ObjectProvider<ShardDirectory> shardDirectory;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ForkJoinPool hashingPool;
+    private final int chunkSize;
+    private final Counter importedCounter;
+    private final Counter rejectedCounter;
+
+    public UserImportServiceImpl(UserRepository userRepository,
+                                 PasswordHashingEngine passwordHashingEngine,
+                                 UserKeyFilter userKeyFilter,
+                                 ShardRouter shardRouter,
+                                 ObjectProvider<ShardDirectory> shardDirectory,
+                                 EntityManager entityManager,
+                                 PlatformTransactionManager transactionManager,
+                                 ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${user-import.chunk-size}") int chunkSize,
+                                 @Value("${user-import.hash-parallelism}") int hashParallelism) {
+        this.userRepository = userRepository;
+        this.passwordHashingEngine = passwordHashingEngine;
+        this.userKeyFilter = userKeyFilter;
+        this.shardRouter = shardRouter;
+        this.shardDirectory = shardDirectory;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.hashingPool = new ForkJoinPool(
+                hashParallelism > 0 ? hashParallelism : Runtime.getRuntime().availableProcessors());
+        this.chunkSize = chunkSize;
+        this.importedCounter = meterRegistry.counter("user.import.records", "result", "imported");
+        this.rejectedCounter = meterRegistry.counter("user.import.records", "result", "rejected");
+    }
+
+    @Override
+    public UserImportResultDto importUsers(Path file, UserImportReader.Format format) throws IOException {
+
+        UserImportCheckpoint checkpoint = new UserImportCheckpoint(file);
+        Path rejectFile = file.resolveSibling(file.getFileName() + ".rejects");
+        long startedAt = System.currentTimeMillis();
+        long processedThisRun = 0;
+
+        log.info("user import started. file={}, format={}, resumeFrom={}", file, format, checkpoint.getProcessed());
+
+        try (UserImportReader reader = new UserImportReader(file, format, objectMapper);
+             BufferedWriter rejects = Files.newBufferedWriter(rejectFile, StandardCharsets.UTF_8,
+                     StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+
+            // 체크포인트까지 처리한 레코드는 건너뜀
+            for (long skipped = 0; skipped < checkpoint.getProcessed(); skipped++) {
+                if (reader.next() == null) {
+                    break;
+                }
+            }
+
+            // 저장 중에 중단된 청크는 같은 범위로 먼저 다시 처리
+            List<UserImportReader.Line> chunk = new ArrayList<>(chunkSize);
+            UserImportReader.Line line;
+            if (checkpoint.getPending() > 0) {
+                while (chunk.size() < checkpoint.getPending() && (line = reader.next()) != null) {
+                    chunk.add(line);
+                }
+                if (!chunk.isEmpty()) {
+                    processedThisRun += importChunk(chunk, true, checkpoint, rejects);
+                    chunk.clear();
+                }
+            }
+
+            while ((line = reader.next()) != null) {
+                chunk.add(line);
+                if (chunk.size() == chunkSize) {
+                    processedThisRun += importChunk(chunk, false, checkpoint, rejects);
+                    logProgress(checkpoint, processedThisRun, startedAt);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                processedThisRun += importChunk(chunk, false, checkpoint, rejects);
+            }
+        }
+
+        long elapsed = Math.max(1, System.currentTimeMillis() - startedAt);
+        UserImportResultDto result = UserImportResultDto.builder()
+                .processed(checkpoint.getProcessed())
+                .imported(checkpoint.getImported())
+                .rejected(checkpoint.getRejected())
+                .elapsedMillis(elapsed)
+                .recordsPerSecond(processedThisRun * 1000.0 / elapsed)
+                .build();
+
+        log.info("user import finished. file={}, processed={}, imported={}, rejected={}, records/s={}",
+                file, result.getProcessed(), result.getImported(), result.getRejected(),
+                String.format("%.1f", result.getRecordsPerSecond()));
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashingPool.shutdown();
+    }
+
+    // 청크 하나를 처리하고 처리한 레코드 수를 반환 (resumed : 이전 실행에서 저장 중에 중단된 청크)
+    private int importChunk(List<UserImportReader.Line> chunk, boolean resumed, UserImportCheckpoint checkpoint,
+                            BufferedWriter rejects) throws IOException {
+
+        List<UserImportRecordDto> accepted = new ArrayList<>(chunk.size());
+        int alreadyImported = 0;
+        List<Map.Entry<UserImportRecordDto, String>> rejected = new ArrayList<>();
+
+        // 필드 검증 및 청크 안 중복 제거
+        Set<String> chunkEmails = new HashSet<>();
+        Set<String> chunkNicknames = new HashSet<>();
+        for (UserImportReader.Line line : chunk) {
+            UserImportRecordDto record = line.record();
+            String reason = line.parseError() != null ? "PARSE_ERROR: " + line.parseError() : validate(record);
+            if (reason == null && !chunkEmails.add(record.getEmail().toLowerCase(Locale.ROOT))) {
+                reason = "DUPLICATE_EMAIL_IN_FILE";
+            }
+            if (reason == null && !chunkNicknames.add(record.getNickname())) {
+                reason = "DUPLICATE_NICKNAME_IN_FILE";
+            }
+
+            if (reason == null) {
+                accepted.add(record);
+            } else {
+                rejected.add(Map.entry(record, reason));
+            }
+        }
+
+        // 기존 유저와의 중복 제거 (청크당 쿼리 한 번)
+        if (!accepted.isEmpty()) {
+            Map<String, String> existingNicknameByEmail = new HashMap<>();
+            Set<String> existingNicknames = new HashSet<>();
+            for (UserKeyDto key : userRepository.findKeysByEmailInOrNicknameIn(
+                    accepted.stream().map(UserImportRecordDto::getEmail).toList(),
+                    accepted.stream().map(UserImportRecordDto::getNickname).toList())) {
+                existingNicknameByEmail.put(key.getEmail().toLowerCase(Locale.ROOT), key.getNickname());
+                existingNicknames.add(key.getNickname());
+            }
+
+            Iterator<UserImportRecordDto> iterator = accepted.iterator();
+            while (iterator.hasNext()) {
+                UserImportRecordDto record = iterator.next();
+                String email = record.getEmail().toLowerCase(Locale.ROOT);
+                if (resumed && record.getNickname().equals(existingNicknameByEmail.get(email))) {
+                    alreadyImported++;
+                    iterator.remove();
+                } else if (existingNicknameByEmail.containsKey(email)) {
+                    rejected.add(Map.entry(record, "DUPLICATE_EMAIL"));
+                    iterator.remove();
+                } else if (existingNicknames.contains(record.getNickname())) {
+                    rejected.add(Map.entry(record, "DUPLICATE_NICKNAME"));
+                    iterator.remove();
+                }
+            }
+        }
+
+        // 병렬 해시 후 샤드마다 한 트랜잭션으로 저장 (샤딩을 사용하지 않으면 0번 샤드 하나)
+        List<String> hashes = hashPasswords(accepted);
+        Map<Integer, List<Integer>> indexesByShard = new TreeMap<>();
+        for (int i = 0; i < accepted.size(); i++) {
+            indexesByShard.computeIfAbsent(shardRouter.placementFor(accepted.get(i).getEmail()),
+                    shard -> new ArrayList<>()).add(i);
+        }
+
+        checkpoint.begin(chunk.size());
+        List<UserImportRecordDto> imported = new ArrayList<>(accepted.size());
+        indexesByShard.forEach((shard, indexes) -> {
+            List<UserImportRecordDto> records = indexes.stream().map(accepted::get).toList();
+            List<String> shardHashes = indexes.stream().map(hashes::get).toList();
+            try {
+                insertInTransaction(records, shardHashes, shard);
+                imported.addAll(records);
+            } catch (ConstraintViolationException | DuplicateKeyException e) {
+                // 중복 확인 이후 가입한 유저와 겹침 - 한 건씩 다시 저장하고 걸린 레코드만 거절
+                log.warn("user import chunk hit a unique constraint, retrying row by row. shard={}, records={}",
+                        shard, records.size());
+                for (int i = 0; i < records.size(); i++) {
+                    try {
+                        insertInTransaction(List.of(records.get(i)), List.of(shardHashes.get(i)), shard);
+                        imported.add(records.get(i));
+                    } catch (ConstraintViolationException | DuplicateKeyException rowException) {
+                        rejected.add(Map.entry(records.get(i), "DUPLICATE_EMAIL_OR_NICKNAME"));
+                    }
+                }
+            }
+        });
+
+        for (UserImportRecordDto record : imported) {
+            userKeyFilter.put(UserKeyFilter.Type.EMAIL, record.getEmail());
+            userKeyFilter.put(UserKeyFilter.Type.NICKNAME, record.getNickname());
+        }
+
+        rejected.sort(Comparator.comparingLong(entry -> entry.getKey().getLineNumber()));
+        for (Map.Entry<UserImportRecordDto, String> entry : rejected) {
+            rejects.write(objectMapper.writeValueAsString(Map.of(
+                    "line", entry.getKey().getLineNumber(),
+                    "email", Objects.requireNonNullElse(entry.getKey().getEmail(), ""),
+                    "reason", entry.getValue())));
+            rejects.newLine();
+        }
+        rejects.flush();
+
+        checkpoint.advance(chunk.size(), imported.size() + alreadyImported, rejected.size());
+        importedCounter.increment(imported.size());
+        rejectedCounter.increment(rejected.size());
+        return chunk.size();
+    }
+
+    // 필수값 및 컬럼 길이 검증 (문제가 없으면 null)
+    private String validate(UserImportRecordDto record) {
+        if (isInvalid(record.getEmail(), 50) || !record.getEmail().contains("@")) {
+            return "INVALID_EMAIL";
+        }
+        if (isInvalid(record.getNickname(), 10)) {
+            return "INVALID_NICKNAME";
+        }
+        if (isInvalid(record.getUsername(), 30)) {
+            return "INVALID_USERNAME";
+        }
+        if (isInvalid(record.getBirthday(), 8)) {
+            return "INVALID_BIRTHDAY";
+        }
+        if (isInvalid(record.getPhone(), 11)) {
+            return "INVALID_PHONE";
+        }
+        if (isInvalid(record.getLocalAddress(), 100) || isInvalid(record.getExtraAddress(), 100)
+                || record.getLocalCode() == null) {
+            return "INVALID_ADDRESS";
+        }
+        if (record.getPasswordHash() != null) {
+            return passwordHashingEngine.isSupportedHash(record.getPasswordHash()) ? null : "UNSUPPORTED_PASSWORD_HASH";
+        }
+        return record.getPassword() == null || record.getPassword().isEmpty() ? "INVALID_PASSWORD" : null;
+    }
+
+    private boolean isInvalid(String value, int maxLength) {
+        return value == null || value.isBlank() || value.length() > maxLength;
+    }
+
+    // 해시 전용 ForkJoinPool 에서 병렬 해시 (이미 해시된 값은 그대로 사용)
+    private List<String> hashPasswords(List<UserImportRecordDto> records) {
+        try {
+            return hashingPool.submit(() -> records.parallelStream()
+                    .map(record -> record.getPasswordHash() != null ? record.getPasswordHash()
+                            : passwordHashingEngine.encodeOnCaller(record.getPassword()))
+                    .toList()).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("user import interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("password hashing failed", e.getCause());
+        }
+    }
+
+    private void insertInTransaction(List<UserImportRecordDto> records, List<String> hashes, int shard) {
+        ShardContext.run(shard, () -> transactionTemplate.executeWithoutResult(status -> insert(records, hashes, shard)));
+    }
+
+    // 주소 -> 유저(대표주소 스냅샷 포함) -> 유저 주소 순으로 저장, flush 시 테이블별로 모아 배치 INSERT
+    private void insert(List<UserImportRecordDto> records, List<String> hashes, int shard) {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(chunkSize);
+        List<ShardDirectory.NewEntry> directoryEntries = new ArrayList<>(records.size());
+
+        for (int i = 0; i < records.size(); i++) {
+            UserImportRecordDto record = records.get(i);
+
+            Address address = Address.createAddress(record.getLocalAddress(), record.getExtraAddress(),
+                    record.getLocalCode());
+            entityManager.persist(address);
+
+            User user = User.createUser(record.getEmail(), hashes.get(i), record.getBirthday(),
+                    record.getUsername(), record.getNickname(), record.getPhone(), 0);
+            user.changeDefaultAddress(new DefaultAddress(address.getId(), address.getLocalAddress(),
+                    address.getExtraAddress(), address.getLocalCode()));
+            entityManager.persist(user);
+            directoryEntries.add(new ShardDirectory.NewEntry(user.getId(), user.getEmail(), user.getNickname(),
+                    user.getPhone(), shard));
+
+            entityManager.persist(UserAddressList.createUserAddressList(user, address, Boolean.TRUE));
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        // 샤딩 사용시 디렉터리 등록 (다른 샤드에 같은 이메일이 있으면 청크 트랜잭션 롤백)
+        ShardDirectory directory = shardDirectory.getIfAvailable();
+        if (directory != null) {
+            directory.registerAll(directoryEntries);
+        }
+    }
+
+    private void logProgress(UserImportCheckpoint checkpoint, long processedThisRun, long startedAt) {
+        long elapsed = Math.max(1, System.currentTimeMillis() - startedAt);
+        log.info("user import chunk committed. processed={}, imported={}, rejected={}, records/s={}",
+                checkpoint.getProcessed(), checkpoint.getImported(), checkpoint.getRejected(),
+                String.format("%.1f", processedThisRun * 1000.0 / elapsed));
+    }
+
+}
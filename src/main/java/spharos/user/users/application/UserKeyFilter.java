@@ -0,0 +1,284 @@
+package spharos.user.users.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import spharos.user.global.common.bloom.BloomFilter;
+import spharos.user.global.common.bloom.LocalBloomBitStore;
+import spharos.user.global.common.bloom.RedisBloomBitStore;
+import spharos.user.global.config.shard.ShardRouter;
+import spharos.user.users.dto.UserKeyDto;
+import spharos.user.users.infrastructure.UserRepository;
+import spharos.user.users.vo.response.UserKeyFilterStatsResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Stream;
+
+/*
+    이메일/닉네임 중복 체크용 블룸 필터
+    - 필터에 없으면 DB 조회 없이 "존재하지 않음"으로 응답하고, 있을 수도 있는 경우에만 DB를 조회
+    - 시작시 user 테이블을 스트리밍으로 읽어 구성하며 회원가입, 회원정보 수정시 갱신
+    - 기본(user-key-filter.redis.enabled=false)은 인스턴스마다 로컬 필터를 두고, 추가한 값을 pub/sub 채널로 다른 인스턴스에도 추가
+      ("존재하지 않음" 응답은 프로세스 밖으로 나가지 않음, 메시지를 놓친 인스턴스는 다음 재구성까지 그 값을 "존재하지 않음"으로 볼 수 있음)
+    - true 로 켜면 Redis 비트맵을 공유해 모든 인스턴스가 같은 필터를 사용 (조회마다 Redis 왕복, 인스턴스간 상태가 정확히 같아야 할 때만)
+    - DB 비교는 대소문자를 구분하지 않으므로 소문자로 정규화해서 저장
+ */
+@Slf4j
+@Component
+public class UserKeyFilter implements MessageListener {
+
+    private static final String REDIS_KEY_PREFIX = "user-service:user-key-filter:";
+    private static final ChannelTopic TOPIC = new ChannelTopic("user-service:user-key-filter:added");
+
+    public enum Type { EMAIL, NICKNAME }
+
+    private final UserRepository userRepository;
+    private final ShardRouter shardRouter;
+    private final TransactionTemplate readOnlyTransaction;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final long expectedInsertions;
+    private final double falsePositiveProbability;
+    private final boolean redisEnabled;
+
+    private final Map<Type, Counter> absentCounters = new EnumMap<>(Type.class);
+    private final Map<Type, Counter> presentCounters = new EnumMap<>(Type.class);
+    private final Map<Type, Counter> falsePositiveCounters = new EnumMap<>(Type.class);
+
+    // 재구성 중에 추가된 값 (재구성 완료 후 새 필터에 반영)
+    private final Queue<Map.Entry<Type, String>> pendingDuringRebuild = new ConcurrentLinkedQueue<>();
+
+    // 구성이 끝나기 전에는 null 이며 이때는 항상 DB를 조회
+    private volatile Map<Type, BloomFilter> filters;
+    private volatile boolean rebuilding;
+
+    public UserKeyFilter(UserRepository userRepository,
+                         ShardRouter shardRouter,
+                         PlatformTransactionManager transactionManager,
+                         StringRedisTemplate stringRedisTemplate,
+                         RedisMessageListenerContainer redisMessageListenerContainer,
+                         MeterRegistry meterRegistry,
+                         @Value("${user-key-filter.expected-insertions}") long expectedInsertions,
+                         @Value("${user-key-filter.false-positive-probability}") double falsePositiveProbability,
+                         @Value("${user-key-filter.redis.enabled}") boolean redisEnabled) {
+        this.userRepository = userRepository;
+        this.shardRouter = shardRouter;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.redisEnabled = redisEnabled;
+
+        for (Type type : Type.values()) {
+            String tag = type.name().toLowerCase(Locale.ROOT);
+            absentCounters.put(type, meterRegistry.counter("user.key.filter", "type", tag, "result", "absent"));
+            presentCounters.put(type, meterRegistry.counter("user.key.filter", "type", tag, "result", "present"));
+            falsePositiveCounters.put(type,
+                    meterRegistry.counter("user.key.filter", "type", tag, "result", "false_positive"));
+        }
+    }
+
+    // 로컬 필터 사용시 다른 인스턴스에서 추가한 값 수신
+    @PostConstruct
+    public void subscribe() {
+        if (!redisEnabled) {
+            redisMessageListenerContainer.addMessageListener(this, TOPIC);
+        }
+    }
+
+    // 애플리케이션 시작시 필터 구성 (Redis 공유 필터가 이미 있으면 그대로 사용)
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (redisEnabled) {
+            Map<Type, BloomFilter> shared = redisFilters();
+            boolean exists = shared.values().stream()
+                    .allMatch(filter -> ((RedisBloomBitStore) filter.getBitStore()).exists());
+            if (exists) {
+                filters = shared;
+                log.info("user key filter attached to shared redis bitmap");
+                return;
+            }
+        }
+        rebuild();
+    }
+
+    // 필터 재구성 - user 테이블 전체를 스트리밍으로 읽어 새 필터를 만든 뒤 교체
+    public synchronized void rebuild() {
+
+        long startedAt = System.currentTimeMillis();
+        rebuilding = true;
+        // Redis 공유 모드이면 스캔 전에 재구성 키를 만들어 모든 인스턴스의 추가를 모음
+        Map<Type, BloomFilter> shared = redisEnabled ? redisFilters() : null;
+        boolean completed = false;
+        if (shared != null) {
+            shared.values().forEach(filter -> ((RedisBloomBitStore) filter.getBitStore()).beginRebuild());
+        }
+        try {
+            Map<Type, BloomFilter> next = new EnumMap<>(Type.class);
+            for (Type type : Type.values()) {
+                next.put(type, BloomFilter.create(expectedInsertions, falsePositiveProbability,
+                        new LocalBloomBitStore(BloomFilter.bitSize(expectedInsertions, falsePositiveProbability))));
+            }
+
+            // 샤딩 사용시 샤드마다 차례로 스트리밍
+            long[] count = new long[1];
+            shardRouter.forEachShard(shard -> count[0] += readOnlyTransaction.execute(status -> {
+                long scanned = 0;
+                try (Stream<UserKeyDto> keys = userRepository.streamAllKeys()) {
+                    for (UserKeyDto key : (Iterable<UserKeyDto>) keys::iterator) {
+                        next.get(Type.EMAIL).put(normalize(key.getEmail()));
+                        next.get(Type.NICKNAME).put(normalize(key.getNickname()));
+                        scanned++;
+                    }
+                }
+                return scanned;
+            }));
+
+            // Redis 공유 모드이면 재구성 중에 추가된 비트에 로컬에서 만든 비트맵을 합쳐서 교체
+            if (shared != null) {
+                for (Type type : Type.values()) {
+                    LocalBloomBitStore local = (LocalBloomBitStore) next.get(type).getBitStore();
+                    ((RedisBloomBitStore) shared.get(type).getBitStore()).completeRebuild(local.toRedisBitmap());
+                }
+                filters = shared;
+                completed = true;
+            } else {
+                filters = next;
+            }
+
+            log.info("user key filter rebuilt. users={}, elapsed={}ms", count[0], System.currentTimeMillis() - startedAt);
+        } finally {
+            if (shared != null && !completed) {
+                shared.values().forEach(filter -> ((RedisBloomBitStore) filter.getBitStore()).abortRebuild());
+            }
+            rebuilding = false;
+            // 재구성 중 추가된 값 반영 (로컬 필터용, Redis 공유 모드에서는 재구성 키에 이미 반영됨)
+            Map.Entry<Type, String> pending;
+            while ((pending = pendingDuringRebuild.poll()) != null) {
+                add(pending.getKey(), pending.getValue());
+            }
+        }
+    }
+
+    // 값이 존재할 수도 있는지 확인 (false 이면 확실히 존재하지 않음)
+    public boolean mightContain(Type type, String value) {
+        Map<Type, BloomFilter> current = filters;
+        if (current == null || value == null) {
+            return true;
+        }
+        try {
+            boolean mightContain = current.get(type).mightContain(normalize(value));
+            if (!mightContain) {
+                absentCounters.get(type).increment();
+            }
+            return mightContain;
+        } catch (RuntimeException e) {
+            // 필터 조회 실패시 DB 조회로 대체
+            log.warn("user key filter lookup failed. type={}", type, e);
+            return true;
+        }
+    }
+
+    // 필터 통과 후 DB 확인 결과 기록 (오탐률 계산용)
+    public void recordLookup(Type type, boolean exists) {
+        (exists ? presentCounters : falsePositiveCounters).get(type).increment();
+    }
+
+    // 새 값 추가 (로컬 필터 사용시 다른 인스턴스에도 알림)
+    public void put(Type type, String value) {
+        if (value == null) {
+            return;
+        }
+        add(type, value);
+        if (!redisEnabled) {
+            try {
+                stringRedisTemplate.convertAndSend(TOPIC.getTopic(), type.name() + "\t" + value);
+            } catch (RuntimeException e) {
+                log.warn("user key filter broadcast failed. type={}", type, e);
+            }
+        }
+    }
+
+    // 다른 인스턴스에서 추가한 값 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf('\t');
+        if (separator < 0) {
+            return;
+        }
+        add(Type.valueOf(body.substring(0, separator)), body.substring(separator + 1));
+    }
+
+    private void add(Type type, String value) {
+        if (rebuilding) {
+            pendingDuringRebuild.add(Map.entry(type, value));
+        }
+        Map<Type, BloomFilter> current = filters;
+        if (current != null) {
+            try {
+                current.get(type).put(normalize(value));
+            } catch (RuntimeException e) {
+                log.warn("user key filter put failed. type={}", type, e);
+            }
+        }
+    }
+
+    // 필터 상태 및 오탐률 조회
+    public Map<Type, UserKeyFilterStatsResponse> getStats() {
+        Map<Type, BloomFilter> current = filters;
+        Map<Type, UserKeyFilterStatsResponse> stats = new EnumMap<>(Type.class);
+        for (Type type : Type.values()) {
+            double absent = absentCounters.get(type).count();
+            double falsePositive = falsePositiveCounters.get(type).count();
+            BloomFilter filter = current == null ? null : current.get(type);
+            stats.put(type, UserKeyFilterStatsResponse.builder()
+                    .ready(filter != null)
+                    .shared(redisEnabled)
+                    .bitSize(filter == null ? 0 : filter.getBitSize())
+                    .hashCount(filter == null ? 0 : filter.getHashCount())
+                    .expectedFalsePositiveProbability(filter == null ? 0 : filter.expectedFalsePositiveProbability())
+                    .observedFalsePositiveRate(absent + falsePositive == 0 ? 0 : falsePositive / (absent + falsePositive))
+                    .absentCount((long) absent)
+                    .presentCount((long) presentCounters.get(type).count())
+                    .falsePositiveCount((long) falsePositive)
+                    .build());
+        }
+        return stats;
+    }
+
+    private Map<Type, BloomFilter> redisFilters() {
+        Map<Type, BloomFilter> shared = new EnumMap<>(Type.class);
+        for (Type type : Type.values()) {
+            // 재구성 키와 같은 슬롯에 있도록 타입을 해시 태그로 사용 (Redis Cluster)
+            String key = REDIS_KEY_PREFIX + "{" + type.name().toLowerCase(Locale.ROOT) + "}";
+            shared.put(type, BloomFilter.create(expectedInsertions, falsePositiveProbability,
+                    new RedisBloomBitStore(stringRedisTemplate, key)));
+        }
+        return shared;
+    }
+
+    private String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+}
@@ -2,18 +2,18 @@ package spharos.user.users.application;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import spharos.user.address.application.AddressService;
 import spharos.user.address.dto.AddressRegisterDto;
 import spharos.user.address.dto.AddressRegisterResultDto;
-import spharos.user.address.vo.AddressDefaultResponse;
 import spharos.user.global.common.response.ResponseCode;
+import spharos.user.users.domain.DefaultAddress;
 import spharos.user.users.domain.User;
+import spharos.user.users.domain.UserChangedEvent;
 import spharos.user.global.config.security.JwtTokenProvider;
+import spharos.user.global.config.security.PasswordHashingEngine;
 import spharos.user.global.exception.CustomException;
 import spharos.user.users.dto.UserModifyDto;
 import spharos.user.users.dto.UserPasswordChangeDto;
@@ -36,37 +36,45 @@ public class UserServiceImpl implements UserService {
 
     private final AddressService addressService;
     private final UserRepository userRepository;
-    private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider jwtTokenProvider;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserKeyFilter userKeyFilter;
+    private final PasswordHashingEngine passwordHashingEngine;
+    private final TokenService tokenService;
+    private final UserVersionStamp userVersionStamp;
 
     // 이메일 중복 체크
     @Override
+    @Transactional(readOnly = true)
     public Boolean checkEmailExist(String email) {
 
-        Optional<User> user = userRepository.findByEmail(email);
-
-        // 해당 이메일이 DB에 존재하면 체크 결과를 true로 리턴
-        if(user.isPresent()){
-            return Boolean.TRUE;
+        // 필터에 없으면 DB 조회 없이 체크 결과를 false로 리턴
+        if(!userKeyFilter.mightContain(UserKeyFilter.Type.EMAIL, email)) {
+            return Boolean.FALSE;
         }
 
-        // 해당 이메일이 DB에 존재하지 않으면 체크 결과를 false로 리턴
-        return Boolean.FALSE;
+        // 존재할 수도 있는 경우에만 DB에서 확인
+        boolean exists = userRepository.existsByEmail(email);
+        userKeyFilter.recordLookup(UserKeyFilter.Type.EMAIL, exists);
+
+        return exists;
     }
 
     // 닉네임 중복 체크
     @Override
+    @Transactional(readOnly = true)
     public Boolean checkNickname(String nickname) {
 
-        Optional<User> user = userRepository.findByNickname(nickname);
-
-        // 해당 닉네임이 DB에 존재하면 체크 결과를 true로 리턴
-        if(user.isPresent()){
-            return Boolean.TRUE;
+        // 필터에 없으면 DB 조회 없이 체크 결과를 false로 리턴
+        if(!userKeyFilter.mightContain(UserKeyFilter.Type.NICKNAME, nickname)) {
+            return Boolean.FALSE;
         }
 
-        // 해당 닉네임이 DB에 존재하지 않으면 체크 결과를 false로 리턴
-        return Boolean.FALSE;
+        // 존재할 수도 있는 경우에만 DB에서 확인
+        boolean exists = userRepository.existsByNickname(nickname);
+        userKeyFilter.recordLookup(UserKeyFilter.Type.NICKNAME, exists);
+
+        return exists;
     }
 
     // 회원가입
@@ -75,16 +83,21 @@ public class UserServiceImpl implements UserService {
     public UserSignUpResponse join(UserSignUpRequest request) {
 
         // 비밀번호 암호화
-        String hashedPassword = new BCryptPasswordEncoder().encode(request.getPassword());
+        String hashedPassword = passwordHashingEngine.encode(request.getPassword());
 
         // 유저 등록
         User user = User.createUser(request.getEmail(), hashedPassword, request.getBirthday(), request.getUsername(),
                 request.getNickname(), request.getPhone(), 0);
         userRepository.save(user);
+        userVersionStamp.bump(user.getId());
+
+        // 중복 체크 필터에 등록
+        userKeyFilter.put(UserKeyFilter.Type.EMAIL, user.getEmail());
+        userKeyFilter.put(UserKeyFilter.Type.NICKNAME, user.getNickname());
 
         // 주소 등록
         AddressRegisterDto addressRegisterDto = AddressRegisterDto.builder()
-                .user(user)
+                .userId(user.getId())
                 .localAddress(request.getLocalAddress())
                 .extraAddress(request.getExtraAddress())
                 .defaultAddress(Boolean.TRUE)
@@ -107,8 +120,8 @@ public class UserServiceImpl implements UserService {
     @Override
     public UserLoginResponse login(UserLoginRequest userLoginIn) {
 
-        // 유저 확인
-        User user = userRepository.findByEmail(userLoginIn.getEmail())
+        // 유저 조회 (대표주소 스냅샷 포함, 가입/비밀번호 변경 직후에도 최신 해시로 검증하도록 primary 에서 조회)
+        User user = userRepository.findForLoginByEmail(userLoginIn.getEmail())
                 .orElseThrow(() -> new CustomException(ResponseCode.LOGIN_FAIL));
 
         // 유저 상태 확인
@@ -120,24 +133,31 @@ public class UserServiceImpl implements UserService {
             throw new CustomException(ResponseCode.DORMANT_USER);
         }
 
-        // 아이디와 비밀번호 확인
-        authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        userLoginIn.getEmail(),
-                        userLoginIn.getPassword()
-                )
-        );
+        // 비밀번호 확인 (이미 조회한 유저의 해시로 검증)
+        if(!passwordHashingEngine.matches(userLoginIn.getPassword(), user.getPassword())) {
+            throw new CustomException(ResponseCode.LOGIN_FAIL);
+        }
+
+        // 해시 설정(알고리즘, cost)이 바뀐 경우 새 설정으로 다시 저장
+        if(passwordHashingEngine.upgradeEncoding(user.getPassword())) {
+            userRepository.updatePassword(user.getId(), passwordHashingEngine.encode(userLoginIn.getPassword()));
+            userVersionStamp.bump(user.getId());
+        }
+
+        // 대표주소가 없는 경우 에러
+        DefaultAddress defaultAddress = user.getDefaultAddress();
+        if(defaultAddress == null) {
+            throw new CustomException(ResponseCode.CANNOT_FIND_ADDRESS);
+        }
 
         // 토큰발급
         String accessToken = jwtTokenProvider.generateToken(user);
-        // 리프레시 토큰 발급 TODO
-//        String refreshToken = jwtTokenProvider.generateRefreshToken(user);
-
-        // 대표주소 조회
-        AddressDefaultResponse defaultAddress = addressService.getDefaultAddress(user);
+        // 리프레시 토큰 발급 (기기별 토큰 패밀리)
+        String refreshToken = tokenService.issueRefreshToken(user, userLoginIn.getDeviceId());
 
         return UserLoginResponse.builder()
                 .token(accessToken)
+                .refreshToken(refreshToken)
                 .email(user.getEmail())
                 .username(user.getName())
                 .address(defaultAddress.getLocalAddress() + " " + defaultAddress.getExtraAddress())
@@ -147,6 +167,7 @@ public class UserServiceImpl implements UserService {
 
     // 아이디(이메일) 찾기
     @Override
+    @Transactional(readOnly = true)
     public UserFindEmailResponse findEmail(String username, String phone) {
 
         // 휴대폰 번호로 일치하는 유저 정보 조회
@@ -178,11 +199,16 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new CustomException(ResponseCode.CANNOT_FIND_USER));
 
         // 비밀번호 변경
-        user.setPassword(new BCryptPasswordEncoder().encode(userPasswordChangeDto.getPassword()));
+        user.setPassword(passwordHashingEngine.encode(userPasswordChangeDto.getPassword()));
+        userVersionStamp.bump(user.getId());
+
+        // 비밀번호가 바뀌었으므로 모든 기기의 리프레시 토큰 폐기
+        tokenService.revokeAll(user.getEmail());
     }
 
     // 이메일로 유저정보 찾기
     @Override
+    @Transactional(readOnly = true)
     public User getUserFromEmail(String email) {
         return userRepository.findByEmail(email)
                 .orElseThrow(() -> new CustomException(ResponseCode.CANNOT_FIND_USER));
@@ -192,6 +218,7 @@ public class UserServiceImpl implements UserService {
         이름과 이메일로 해당하는 유저가 존재하는지 체크
      */
     @Override
+    @Transactional(readOnly = true)
     public Boolean checkExistEmailByNameAndEmail(String username, String email) {
 
         // 이메일로 유저 조회
@@ -212,13 +239,14 @@ public class UserServiceImpl implements UserService {
 
     // 이메일과 비밀번호로 유저 확인
     @Override
+    @Transactional(readOnly = true)
     public Boolean checkPassword(UserPasswordCheckDto userPasswordCheckDto) {
 
         // 유저 확인
         User user = getUserFromEmail(userPasswordCheckDto.getEmail());
 
         // 비밀번호 일치 확인
-        if(new BCryptPasswordEncoder().matches(userPasswordCheckDto.getPassword(),user.getPassword())) {
+        if(passwordHashingEngine.matches(userPasswordCheckDto.getPassword(),user.getPassword())) {
             return Boolean.TRUE;
         }
 
@@ -227,6 +255,7 @@ public class UserServiceImpl implements UserService {
 
     // 회원정보조회
     @Override
+    @Transactional(readOnly = true)
     public UserInformationResponse getUserInformation(String email) {
 
         // 유저 확인
@@ -253,10 +282,18 @@ public class UserServiceImpl implements UserService {
                 userModifyDto.getUsername(),
                 userModifyDto.getNickname(),
                 userModifyDto.getPhone());
+        userVersionStamp.bump(user.getId());
+
+        // 변경된 닉네임을 중복 체크 필터에 등록
+        userKeyFilter.put(UserKeyFilter.Type.NICKNAME, user.getNickname());
+
+        // 유저 정보 변경 알림 (리뷰 작성자 캐시 무효화)
+        eventPublisher.publishEvent(new UserChangedEvent(user.getEmail()));
     }
 
     // 회원탈퇴전 회원확인
     @Override
+    @Transactional(readOnly = true)
     public Boolean checkUserBeforeWithdraw(UserWithdrawCheckDto dto) {
 
         // 헤더에 담긴 이메일과 유저가 입력한 이메일이 다른 경우
@@ -268,7 +305,7 @@ public class UserServiceImpl implements UserService {
         User user = getUserFromEmail(dto.getLoginEmail());
 
         // 비밀번호 일치 확인
-        if(!new BCryptPasswordEncoder().matches(dto.getPassword(),user.getPassword())) {
+        if(!passwordHashingEngine.matches(dto.getPassword(),user.getPassword())) {
             return Boolean.FALSE;
         }
 
@@ -290,6 +327,13 @@ public class UserServiceImpl implements UserService {
 
         // 유저 상태를 [탈퇴]로 변경
         user.setStatus(1);
+        userVersionStamp.bump(user.getId());
+
+        // 모든 기기의 리프레시 토큰 폐기
+        tokenService.revokeAll(user.getEmail());
+
+        // 유저 정보 변경 알림 (리뷰 작성자 캐시 무효화)
+        eventPublisher.publishEvent(new UserChangedEvent(user.getEmail()));
     }
 
 
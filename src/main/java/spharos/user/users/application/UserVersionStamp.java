@@ -0,0 +1,136 @@
+package spharos.user.users.application;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.HexFormat;
+
+/*
+    유저별 버전 스탬프 (회원정보, 주소 조회의 ETag 용)
+    - 유저/주소 변경이 커밋되면 새 임의 값으로 바꾸고, 조회 API 는 엔티티를 읽기 전에 스탬프만으로 If-None-Match 를 비교해 304 응답
+    - 스탬프는 Redis 에 저장하며 없으면(만료, 유실) 새로 만듦 - 이전 ETag 와 일치하지 않으므로 한 번 다시 조회될 뿐 잘못된 304 는 없음
+    - 스탬프에 만든 시각을 함께 저장하고, 만든 지 settle-window 이내면 ETag 를 주지 않음
+      (본문이 지연된 복제본이나 무효화 전 캐시에서 읽힐 수 있으므로 변경 전 본문이 새 ETag 로 저장되는 것을 막음)
+    - Redis 장애시에는 ETag 없이 그대로 응답
+ */
+@Slf4j
+@Component
+public class UserVersionStamp {
+
+    private static final String KEY_PREFIX = "user-service:user-version:";
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final String CACHE_CONTROL = CacheControl.noCache().cachePrivate().getHeaderValue();
+    private static final char CREATED_AT_SEPARATOR = '.';
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration ttl;
+    private final Duration settleWindow;
+
+    public UserVersionStamp(StringRedisTemplate stringRedisTemplate,
+                            @Value("${user-version.ttl}") Duration ttl,
+                            @Value("${user-version.settle-window}") Duration settleWindow) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.ttl = ttl;
+        this.settleWindow = settleWindow;
+    }
+
+    /*
+        If-None-Match 가 현재 스탬프와 같으면 true (304 응답, 컨트롤러는 본문 없이 반환)
+        - 다르면 ETag 를 응답 헤더에 설정 (resource 는 같은 스탬프를 쓰는 조회 API 를 구분)
+        - 클라이언트가 저장 후 매번 재검증하도록 Cache-Control: private, no-cache 설정
+        - 스탬프를 만든 지 settle-window 이내면 ETag 없이 전체 응답 (이 기간에는 ETag 를 준 적이 없으므로 304 도 없음)
+     */
+    public boolean checkNotModified(Long userId, String resource, ServletWebRequest webRequest) {
+        String stamp = current(userId);
+        if (stamp == null) {
+            return false;
+        }
+
+        if (webRequest.getResponse() != null) {
+            webRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        }
+        if (isSettling(stamp)) {
+            return false;
+        }
+        return webRequest.checkNotModified(resource + "-" + stamp);
+    }
+
+    // 현재 스탬프 (없으면 새로 만듦, Redis 장애시 null)
+    public String current(Long userId) {
+        String key = KEY_PREFIX + userId;
+        try {
+            String stamp = stringRedisTemplate.opsForValue().get(key);
+            if (stamp != null) {
+                return stamp;
+            }
+
+            String created = nextStamp();
+            if (Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(key, created, ttl))) {
+                return created;
+            }
+            return stringRedisTemplate.opsForValue().get(key);
+        } catch (RuntimeException e) {
+            log.warn("user version read failed. userId={}", userId, e);
+            return null;
+        }
+    }
+
+    // 스탬프 변경 - 트랜잭션 안이면 커밋 후 (커밋 전에 바꾸면 이전 데이터가 새 ETag 로 캐시될 수 있음)
+    public void bump(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            write(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                write(userId);
+            }
+        });
+    }
+
+    private void write(Long userId) {
+        try {
+            stringRedisTemplate.opsForValue().set(KEY_PREFIX + userId, nextStamp(), ttl);
+        } catch (RuntimeException e) {
+            // 스탬프가 바뀌지 않으면 클라이언트가 이전 응답을 계속 쓰게 되므로 삭제를 시도 (다음 조회에서 새로 만듦)
+            log.warn("user version bump failed. userId={}", userId, e);
+            try {
+                stringRedisTemplate.delete(KEY_PREFIX + userId);
+            } catch (RuntimeException ignored) {
+                // 삭제도 실패하면 TTL 만료까지 이전 스탬프 유지
+            }
+        }
+    }
+
+    // 임의 값 + 만든 시각 (epoch millis)
+    private String nextStamp() {
+        byte[] bytes = new byte[8];
+        RANDOM.nextBytes(bytes);
+        return HexFormat.of().formatHex(bytes) + CREATED_AT_SEPARATOR + System.currentTimeMillis();
+    }
+
+    // 만든 시각이 없는 스탬프(이전 형식)는 settle-window 가 지난 것으로 봄
+    private boolean isSettling(String stamp) {
+        int separator = stamp.lastIndexOf(CREATED_AT_SEPARATOR);
+        if (separator < 0) {
+            return false;
+        }
+        try {
+            long createdAt = Long.parseLong(stamp.substring(separator + 1));
+            return System.currentTimeMillis() - createdAt < settleWindow.toMillis();
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,26 @@
+package spharos.user.users.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 유저 대표주소 스냅샷 (user_address_list 의 대표주소를 유저 행에 복사해 두어 조인 없이 조회)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Embeddable
+public class DefaultAddress {
+
+    @Column(name = "default_address_id")
+    private Long addressId;
+    @Column(length = 100, name = "default_local_address")
+    private String localAddress;
+    @Column(length = 100, name = "default_extra_address")
+    private String extraAddress;
+    @Column(name = "default_local_code")
+    private Integer localCode;
+
+}
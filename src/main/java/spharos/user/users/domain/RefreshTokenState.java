@@ -0,0 +1,18 @@
+package spharos.user.users.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+// Redis 에 저장하는 리프레시 토큰 패밀리 상태 (토큰 원문 대신 SHA-256 digest 만 보관)
+@Getter
+@AllArgsConstructor
+public class RefreshTokenState {
+
+    private final byte[] tokenDigest;
+    private final UUID familyId;
+    private final long expiresAt;
+    private final String deviceId;
+
+}
@@ -2,9 +2,14 @@ package spharos.user.users.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import spharos.user.global.common.domain.BaseEntity;
+import spharos.user.global.config.shard.ShardDirectoryListener;
 
 import java.util.Collection;
 
@@ -12,11 +17,19 @@ import java.util.Collection;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
 @Table(name = "user")
+@EntityListeners(ShardDirectoryListener.class)
+// 필드를 바꾸면 EntityCacheStorage.FORMAT_VERSION 을 올림 (Redis 에 저장된 이전 형식의 엔트리를 읽지 않도록)
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "user")
+@NaturalIdCache(region = "user-email")
 public class User extends BaseEntity implements UserDetails  {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_id_generator")
+    @TableGenerator(name = "user_id_generator", table = "id_sequence", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "user", allocationSize = 100)
     private Long id;
+    // 이메일은 변경되지 않으므로 natural id 로 조회 (2차 캐시 사용시 DB 조회 없이 id 로 변환)
+    @NaturalId
     @Column(unique = true, nullable = false, length = 50, name = "email")
     private String email;
     @Column(nullable = false, name = "password")
@@ -33,6 +46,9 @@ public class User extends BaseEntity implements UserDetails  {
     private String profileImageUrl;
     @Column(nullable = false, name = "status", columnDefinition = "tinyint default 0")
     private Integer status;
+    // 대표주소 스냅샷 (주소 변경과 같은 트랜잭션에서 갱신, 대표주소가 없으면 null)
+    @Embedded
+    private DefaultAddress defaultAddress;
 
     private User(String email, String password, String birthday, String username, String nickname,
                     String phone, Integer status) {
@@ -65,6 +81,11 @@ public class User extends BaseEntity implements UserDetails  {
     }
     public void setPassword(String password) { this.password = password; }
 
+    // 대표주소 스냅샷 지정 (대량 가져오기처럼 주소와 함께 생성하는 경우)
+    public void changeDefaultAddress(DefaultAddress defaultAddress) {
+        this.defaultAddress = defaultAddress;
+    }
+
     public void setStatus(Integer status) {
         this.status = status;
     }
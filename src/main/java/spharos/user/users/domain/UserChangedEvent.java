@@ -0,0 +1,13 @@
+package spharos.user.users.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 유저 정보(닉네임, 상태 등)가 변경되었음을 알리는 이벤트
+@Getter
+@AllArgsConstructor
+public class UserChangedEvent {
+
+    private final String email;
+
+}
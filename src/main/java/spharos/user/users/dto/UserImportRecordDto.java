@@ -0,0 +1,25 @@
+package spharos.user.users.dto;
+
+import lombok.*;
+
+// 대량 가져오기 입력 레코드 (password 또는 passwordHash 중 하나 필요)
+@Builder
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserImportRecordDto {
+
+    private long lineNumber;
+    private String email;
+    private String password;
+    private String passwordHash;
+    private String username;
+    private String nickname;
+    private String birthday;
+    private String phone;
+    private String localAddress;
+    private String extraAddress;
+    private Integer localCode;
+
+}
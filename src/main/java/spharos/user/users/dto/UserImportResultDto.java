@@ -0,0 +1,18 @@
+package spharos.user.users.dto;
+
+import lombok.*;
+
+// 대량 가져오기 결과 (processed 는 체크포인트 이전에 처리한 레코드 포함)
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserImportResultDto {
+
+    private long processed;
+    private long imported;
+    private long rejected;
+    private long elapsedMillis;
+    private double recordsPerSecond;
+
+}
@@ -0,0 +1,14 @@
+package spharos.user.users.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 중복 체크 필터 구성용 유저 키 (이메일, 닉네임)
+@Getter
+@AllArgsConstructor
+public class UserKeyDto {
+
+    private String email;
+    private String nickname;
+
+}
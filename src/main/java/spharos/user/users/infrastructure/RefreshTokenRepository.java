@@ -0,0 +1,211 @@
+package spharos.user.users.infrastructure;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Repository;
+import spharos.user.users.domain.RefreshTokenState;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/*
+    리프레시 토큰 패밀리 저장소 (Redis)
+    - 패밀리 : 기기별로 로그인시 하나 생성되며, 현재 토큰의 SHA-256 digest 와 최소한의 메타데이터만
+      RefreshTokenStateSerializer 형식의 바이너리 값으로 보관 (토큰 원문은 저장하지 않음)
+    - 유저별 기기 인덱스 : 기기 id -> 패밀리 id Hash (같은 기기로 다시 로그인하면 이전 패밀리는 폐기)
+    - 키는 이메일 대신 이메일의 해시를 사용하고 {해시} 태그로 같은 유저의 키를 같은 슬롯에 둠
+    - 모든 키는 TTL 을 가지며, 발급/회전/폐기는 Lua 스크립트로 원자적으로 처리 (스크립트가 쓰는 키는 모두 KEYS 로 선언)
+    - 기존 형식(이메일 키에 리프레시 토큰 원문)은 만료될 때까지 한 번만 사용할 수 있고, 사용하면 새 패밀리를 발급
+ */
+@Repository
+public class RefreshTokenRepository {
+
+    private static final String KEY_PREFIX = "user-service:rt:v2:";
+    // 스크립트가 다루는 키는 모두 KEYS 로 넘기므로, 이전 패밀리를 읽은 뒤 바뀌면 다시 읽어서 재시도
+    private static final int MAX_ATTEMPTS = 5;
+
+    // KEYS[1] 패밀리, KEYS[2] 기기 인덱스, KEYS[3] 같은 기기의 이전 패밀리(있으면)
+    // ARGV[1] 패밀리 id, ARGV[2] 기기 id, ARGV[3] 상태, ARGV[4] TTL(ms), ARGV[5] 읽어둔 이전 패밀리 id (없으면 빈 값)
+    // 반환값 1 : 저장, 0 : 읽은 뒤 이전 패밀리가 바뀜 (다시 읽고 재시도)
+    private static final RedisScript<Long> ISSUE_SCRIPT = RedisScript.of("""
+            local previous = redis.call('HGET', KEYS[2], ARGV[2]) or ''
+            if previous ~= ARGV[5] then
+                return 0
+            end
+            if KEYS[3] then
+                redis.call('DEL', KEYS[3])
+            end
+            redis.call('SET', KEYS[1], ARGV[3], 'PX', ARGV[4])
+            redis.call('HSET', KEYS[2], ARGV[2], ARGV[1])
+            redis.call('PEXPIRE', KEYS[2], ARGV[4])
+            return 1
+            """, Long.class);
+
+    // KEYS[1] 패밀리, KEYS[2] 기기 인덱스 / ARGV[1] 제출된 토큰 digest, ARGV[2] 새 토큰 digest, ARGV[3] 새 만료시각(8바이트), ARGV[4] TTL(ms)
+    // 상태값의 2~33 바이트가 digest, 50~57 바이트가 만료시각, 58 바이트가 기기 id 길이 (RefreshTokenStateSerializer 참고)
+    // 반환값 1 : 회전 성공, 0 : 없는(만료된) 패밀리, -1 : 이미 사용된 토큰 (패밀리 전체 폐기)
+    private static final RedisScript<Long> ROTATE_SCRIPT = RedisScript.of("""
+            local state = redis.call('GET', KEYS[1])
+            if not state then
+                return 0
+            end
+            if string.sub(state, 2, 33) ~= ARGV[1] then
+                redis.call('DEL', KEYS[1])
+                redis.call('HDEL', KEYS[2], string.sub(state, 59, 58 + string.byte(state, 58)))
+                return -1
+            end
+            local rotated = string.sub(state, 1, 1) .. ARGV[2] .. string.sub(state, 34, 49) .. ARGV[3] .. string.sub(state, 58)
+            redis.call('SET', KEYS[1], rotated, 'PX', ARGV[4])
+            redis.call('PEXPIRE', KEYS[2], ARGV[4])
+            return 1
+            """, Long.class);
+
+    // KEYS[1] 기기 인덱스, KEYS[2..] 패밀리 / ARGV 읽어둔 패밀리 id 목록 (KEYS[2..] 와 같은 순서)
+    // 반환값 폐기한 패밀리 수, -1 : 읽은 뒤 패밀리가 바뀜 (다시 읽고 재시도)
+    private static final RedisScript<Long> REVOKE_ALL_SCRIPT = RedisScript.of("""
+            local families = redis.call('HVALS', KEYS[1])
+            if #families ~= #ARGV then
+                return -1
+            end
+            local expected = {}
+            for _, familyId in ipairs(ARGV) do
+                expected[familyId] = true
+            end
+            for _, familyId in ipairs(families) do
+                if not expected[familyId] then
+                    return -1
+                end
+            end
+            redis.call('DEL', unpack(KEYS))
+            return #families
+            """, Long.class);
+
+    // 기존 형식 토큰 사용 - 저장된 토큰과 같을 때만 삭제
+    // KEYS[1] 기존 형식 키(이메일) / ARGV[1] 제출된 토큰
+    // 반환값 1 : 사용 성공, 0 : 없거나 다른 토큰
+    private static final RedisScript<Long> LEGACY_CONSUME_SCRIPT = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                redis.call('DEL', KEYS[1])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    public enum RotationResult { ROTATED, UNKNOWN, REUSED }
+
+    private final RedisTemplate<String, RefreshTokenState> refreshTokenRedisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public RefreshTokenRepository(
+            @Qualifier("refreshTokenRedisTemplate") RedisTemplate<String, RefreshTokenState> refreshTokenRedisTemplate,
+            StringRedisTemplate stringRedisTemplate) {
+        this.refreshTokenRedisTemplate = refreshTokenRedisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    // 새 패밀리 저장 (같은 기기의 이전 패밀리는 폐기)
+    public void saveFamily(String email, UUID familyId, String deviceId, String refreshToken,
+                           long expiresAt, long ttlMillis) {
+        RefreshTokenState state = new RefreshTokenState(digest(refreshToken), familyId, expiresAt, deviceId);
+        @SuppressWarnings("unchecked")
+        RedisSerializer<RefreshTokenState> stateSerializer =
+                (RedisSerializer<RefreshTokenState>) refreshTokenRedisTemplate.getValueSerializer();
+
+        String deviceIndexKey = deviceIndexKey(email);
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            Object previous = stringRedisTemplate.opsForHash().get(deviceIndexKey, deviceId);
+            List<String> keys = new ArrayList<>(List.of(familyKey(email, familyId.toString()), deviceIndexKey));
+            if (previous != null) {
+                keys.add(familyKey(email, previous.toString()));
+            }
+
+            Long result = refreshTokenRedisTemplate.execute(ISSUE_SCRIPT, RedisSerializer.byteArray(), null, keys,
+                    bytes(familyId.toString()), bytes(deviceId), stateSerializer.serialize(state),
+                    bytes(String.valueOf(ttlMillis)), bytes(previous == null ? "" : previous.toString()));
+            if (result != null && result > 0) {
+                return;
+            }
+        }
+        throw new IllegalStateException("refresh token family kept changing while issuing");
+    }
+
+    // 제출된 토큰이 현재 토큰이면 새 토큰으로 교체, 이전 토큰이면 패밀리 전체 폐기
+    public RotationResult rotate(String email, UUID familyId, String presentedToken,
+                                 String newToken, long newExpiresAt, long ttlMillis) {
+
+        Long result = refreshTokenRedisTemplate.execute(ROTATE_SCRIPT, RedisSerializer.byteArray(), null,
+                List.of(familyKey(email, familyId.toString()), deviceIndexKey(email)),
+                digest(presentedToken), digest(newToken), ByteBuffer.allocate(Long.BYTES).putLong(newExpiresAt).array(),
+                bytes(String.valueOf(ttlMillis)));
+
+        if (result == null || result == 0) {
+            return RotationResult.UNKNOWN;
+        }
+        return result > 0 ? RotationResult.ROTATED : RotationResult.REUSED;
+    }
+
+    // 기존 형식(이메일 키)에 저장된 토큰이면 삭제하고 true (한 번만 사용 가능)
+    public boolean consumeLegacy(String email, String presentedToken) {
+        Long result = stringRedisTemplate.execute(LEGACY_CONSUME_SCRIPT, List.of(email), presentedToken);
+        return result != null && result > 0;
+    }
+
+    // 유저의 모든 패밀리 폐기 (기존 형식 포함)
+    public void deleteAll(String email) {
+        String deviceIndexKey = deviceIndexKey(email);
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            List<String> familyIds = stringRedisTemplate.<String, String>opsForHash().values(deviceIndexKey);
+            List<String> keys = new ArrayList<>(familyIds.size() + 1);
+            keys.add(deviceIndexKey);
+            familyIds.forEach(familyId -> keys.add(familyKey(email, familyId)));
+
+            Long result = stringRedisTemplate.execute(REVOKE_ALL_SCRIPT, keys, familyIds.toArray());
+            if (result != null && result >= 0) {
+                stringRedisTemplate.delete(email);
+                return;
+            }
+        }
+        throw new IllegalStateException("refresh token families kept changing while revoking");
+    }
+
+    // 키에 이메일 원문이 남지 않도록 SHA-256 앞 16바이트를 사용
+    private String userHash(String email) {
+        byte[] hash = sha256(bytes(email));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, 16));
+    }
+
+    private String familyKey(String email, String familyId) {
+        return KEY_PREFIX + "{" + userHash(email) + "}:f:" + familyId;
+    }
+
+    private String deviceIndexKey(String email) {
+        return KEY_PREFIX + "{" + userHash(email) + "}:d";
+    }
+
+    static byte[] digest(String token) {
+        return sha256(bytes(token));
+    }
+
+    private static byte[] sha256(byte[] value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,68 @@
+package spharos.user.users.infrastructure;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import spharos.user.users.domain.RefreshTokenState;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/*
+    리프레시 토큰 상태 바이너리 직렬화 (고정 58바이트 + 기기 id)
+    | 버전(1) | 토큰 digest(32) | 패밀리 id(16) | 만료시각 epoch ms(8) | 기기 id 길이(1) | 기기 id(UTF-8) |
+    - Lua 스크립트가 digest, 만료시각 위치를 직접 읽고 바꾸므로 형식을 바꾸면 버전을 올리고 스크립트도 함께 수정해야 함
+ */
+public class RefreshTokenStateSerializer implements RedisSerializer<RefreshTokenState> {
+
+    public static final byte VERSION = 1;
+    public static final int DIGEST_LENGTH = 32;
+    public static final int FIXED_LENGTH = 1 + DIGEST_LENGTH + 16 + 8 + 1;
+    public static final int MAX_DEVICE_ID_LENGTH = 255;
+
+    @Override
+    public byte[] serialize(RefreshTokenState state) throws SerializationException {
+        if (state == null) {
+            return null;
+        }
+        if (state.getTokenDigest().length != DIGEST_LENGTH) {
+            throw new SerializationException("token digest must be " + DIGEST_LENGTH + " bytes");
+        }
+        byte[] deviceId = state.getDeviceId().getBytes(StandardCharsets.UTF_8);
+        if (deviceId.length > MAX_DEVICE_ID_LENGTH) {
+            throw new SerializationException("device id is too long");
+        }
+
+        return ByteBuffer.allocate(FIXED_LENGTH + deviceId.length)
+                .put(VERSION)
+                .put(state.getTokenDigest())
+                .putLong(state.getFamilyId().getMostSignificantBits())
+                .putLong(state.getFamilyId().getLeastSignificantBits())
+                .putLong(state.getExpiresAt())
+                .put((byte) deviceId.length)
+                .put(deviceId)
+                .array();
+    }
+
+    @Override
+    public RefreshTokenState deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null) {
+            return null;
+        }
+        if (bytes.length < FIXED_LENGTH || bytes[0] != VERSION) {
+            throw new SerializationException("unsupported refresh token state");
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        buffer.get();
+        byte[] digest = new byte[DIGEST_LENGTH];
+        buffer.get(digest);
+        UUID familyId = new UUID(buffer.getLong(), buffer.getLong());
+        long expiresAt = buffer.getLong();
+        byte[] deviceId = new byte[buffer.get() & 0xFF];
+        buffer.get(deviceId);
+
+        return new RefreshTokenState(digest, familyId, expiresAt, new String(deviceId, StandardCharsets.UTF_8));
+    }
+
+}
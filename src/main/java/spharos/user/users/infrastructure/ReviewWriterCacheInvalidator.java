@@ -0,0 +1,59 @@
+package spharos.user.users.infrastructure;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import spharos.user.users.application.ReviewWriterCache;
+import spharos.user.users.domain.UserChangedEvent;
+
+import java.nio.charset.StandardCharsets;
+
+/*
+    유저 정보 변경시 모든 인스턴스의 리뷰 작성자 캐시를 무효화
+    - 커밋 이후 Redis pub/sub 채널로 이메일을 발행하고, 구독한 각 인스턴스가 로컬 캐시에서 제거
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ReviewWriterCacheInvalidator implements MessageListener {
+
+    private static final ChannelTopic TOPIC = new ChannelTopic("user-service:review-writer:invalidate");
+
+    private final ReviewWriterCache reviewWriterCache;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, TOPIC);
+    }
+
+    // 유저 정보 변경 트랜잭션 커밋 후 무효화 메시지 발행
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void publish(UserChangedEvent event) {
+
+        // Redis 장애시에도 자기 자신의 캐시는 바로 제거
+        reviewWriterCache.evict(event.getEmail());
+
+        try {
+            stringRedisTemplate.convertAndSend(TOPIC.getTopic(), event.getEmail());
+        } catch (RuntimeException e) {
+            log.warn("review writer cache invalidation publish failed. email={}", event.getEmail(), e);
+        }
+    }
+
+    // 다른 인스턴스에서 발행한 무효화 메시지 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        reviewWriterCache.evict(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,32 @@
+package spharos.user.users.infrastructure;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import spharos.user.address.domain.AddressChangedEvent;
+import spharos.user.users.domain.User;
+
+/*
+    대표주소 스냅샷 동기화 후 2차 캐시의 유저 엔티티 제거
+    - 스냅샷 동기화는 캐시 영역 전체를 비우지 않는 네이티브 UPDATE 이므로 유저 단위로 직접 제거
+    - 2차 캐시를 사용하지 않으면 아무것도 하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class UserEntityCacheEvictor {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    // 주소 변경 트랜잭션 커밋 후 제거
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void evict(AddressChangedEvent event) {
+        evict(event.getUserId());
+    }
+
+    public void evict(Long userId) {
+        entityManagerFactory.getCache().evict(User.class, userId);
+    }
+
+}
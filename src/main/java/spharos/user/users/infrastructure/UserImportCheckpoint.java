@@ -0,0 +1,95 @@
+package spharos.user.users.infrastructure;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+/*
+    대량 가져오기 체크포인트 (<입력 파일>.checkpoint)
+    - 청크 커밋 후 지금까지 처리한 레코드 수와 결과를 임시 파일에 쓰고 원자적으로 교체
+    - 청크 저장 전에 처리 중인 레코드 수(pending)를 먼저 기록하고, 커밋 후 결과를 반영하면서 지움
+    - 재시작시 processed 만큼 레코드를 건너뛰고, pending 이 남아 있으면 다음 pending 개 레코드는 이미 저장되었을 수 있는 청크로 처리
+ */
+public class UserImportCheckpoint {
+
+    private final Path path;
+    private long processed;
+    private long imported;
+    private long rejected;
+    private long pending;
+
+    public UserImportCheckpoint(Path importFile) {
+        this.path = importFile.resolveSibling(importFile.getFileName() + ".checkpoint");
+        if (Files.exists(path)) {
+            Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            this.processed = Long.parseLong(properties.getProperty("processed", "0"));
+            this.imported = Long.parseLong(properties.getProperty("imported", "0"));
+            this.rejected = Long.parseLong(properties.getProperty("rejected", "0"));
+            this.pending = Long.parseLong(properties.getProperty("pending", "0"));
+        }
+    }
+
+    public long getProcessed() {
+        return processed;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    // 이전 실행에서 저장 중에 중단된 청크의 레코드 수 (없으면 0)
+    public long getPending() {
+        return pending;
+    }
+
+    // 청크 저장 시작 전에 처리 중인 레코드 수 저장
+    public void begin(long pending) {
+        this.pending = pending;
+        store();
+    }
+
+    // 커밋된 청크 결과 반영 후 저장
+    public void advance(long processed, long imported, long rejected) {
+        this.processed += processed;
+        this.imported += imported;
+        this.rejected += rejected;
+        this.pending = 0;
+        store();
+    }
+
+    private void store() {
+        Properties properties = new Properties();
+        properties.setProperty("processed", String.valueOf(this.processed));
+        properties.setProperty("imported", String.valueOf(this.imported));
+        properties.setProperty("rejected", String.valueOf(this.rejected));
+        properties.setProperty("pending", String.valueOf(this.pending));
+
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            properties.store(writer, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        try {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
@@ -0,0 +1,164 @@
+package spharos.user.users.infrastructure;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import spharos.user.users.dto.UserImportRecordDto;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/*
+    대량 가져오기 파일을 한 줄씩 읽어 레코드로 변환
+    - CSV : 첫 줄은 헤더(email,password,passwordHash,username,nickname,birthday,phone,localAddress,extraAddress,localCode),
+      큰따옴표로 감싼 필드와 "" 이스케이프 지원 (필드 안 줄바꿈은 미지원)
+    - NDJSON : 한 줄에 레코드 JSON 객체 하나
+    - 형식이 잘못된 줄은 예외 대신 parseError 가 있는 레코드로 반환하여 거절 처리
+ */
+public class UserImportReader implements Closeable {
+
+    public enum Format { CSV, NDJSON }
+
+    public record Line(UserImportRecordDto record, String parseError) {
+    }
+
+    private final BufferedReader reader;
+    private final Function<String, UserImportRecordDto> parser;
+    private long lineNumber;
+
+    private final ObjectMapper objectMapper;
+    private String[] header;
+
+    public UserImportReader(Path file, Format format, ObjectMapper objectMapper) throws IOException {
+        this.reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        this.objectMapper = objectMapper;
+
+        if (format == Format.CSV) {
+            String headerLine = reader.readLine();
+            if (headerLine == null) {
+                throw new IOException("empty csv file: " + file);
+            }
+            lineNumber++;
+            this.header = splitCsv(headerLine).toArray(String[]::new);
+            this.parser = this::parseCsv;
+        } else {
+            this.parser = this::parseJson;
+        }
+    }
+
+    // 다음 레코드 (파일 끝이면 null, 빈 줄은 건너뜀)
+    public Line next() {
+        try {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+                lineNumber++;
+            } while (line.isBlank());
+
+            try {
+                UserImportRecordDto record = parser.apply(line);
+                record.setLineNumber(lineNumber);
+                return new Line(record, null);
+            } catch (RuntimeException e) {
+                return new Line(UserImportRecordDto.builder().lineNumber(lineNumber).build(), e.getMessage());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private UserImportRecordDto parseJson(String line) {
+        try {
+            JsonNode node = objectMapper.readTree(line);
+            if (!node.isObject()) {
+                throw new IllegalArgumentException("record must be a json object");
+            }
+            return toRecord(name -> node.hasNonNull(name) ? node.get(name).asText() : null);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("invalid json");
+        }
+    }
+
+    private UserImportRecordDto parseCsv(String line) {
+        List<String> fields = splitCsv(line);
+        if (fields.size() != header.length) {
+            throw new IllegalArgumentException("expected " + header.length + " fields but was " + fields.size());
+        }
+
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < header.length; i++) {
+            values.put(header[i], fields.get(i).isEmpty() ? null : fields.get(i));
+        }
+        return toRecord(values::get);
+    }
+
+    private UserImportRecordDto toRecord(Function<String, String> field) {
+        String localCode = field.apply("localCode");
+        try {
+            return UserImportRecordDto.builder()
+                    .email(field.apply("email"))
+                    .password(field.apply("password"))
+                    .passwordHash(field.apply("passwordHash"))
+                    .username(field.apply("username"))
+                    .nickname(field.apply("nickname"))
+                    .birthday(field.apply("birthday"))
+                    .phone(field.apply("phone"))
+                    .localAddress(field.apply("localAddress"))
+                    .extraAddress(field.apply("extraAddress"))
+                    .localCode(localCode == null ? null : Integer.valueOf(localCode.trim()))
+                    .build();
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("invalid localCode");
+        }
+    }
+
+    private static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+}
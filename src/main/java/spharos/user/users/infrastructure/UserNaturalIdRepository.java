@@ -0,0 +1,12 @@
+package spharos.user.users.infrastructure;
+
+import spharos.user.users.domain.User;
+
+import java.util.Optional;
+
+// 이메일(natural id)로 유저 조회 - 2차 캐시 사용시 natural id 캐시 -> 엔티티 캐시 순으로 조회해 DB 를 거치지 않음
+public interface UserNaturalIdRepository {
+
+    Optional<User> findByEmail(String email);
+
+}
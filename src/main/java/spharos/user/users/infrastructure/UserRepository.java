@@ -1,15 +1,122 @@
 package spharos.user.users.infrastructure;
 
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import spharos.user.global.config.shard.ShardFanOut;
+import spharos.user.global.config.shard.ShardKey;
+import spharos.user.users.domain.DefaultAddress;
 import spharos.user.users.domain.User;
+import spharos.user.users.dto.ReviewWriterDto;
+import spharos.user.users.dto.UserKeyDto;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface UserRepository extends JpaRepository<User, Long> {
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_NATIVE_SPACES;
+import static spharos.user.global.config.shard.ShardKey.Type.*;
 
-    Optional<User> findByEmail(String email);
-    Optional<User> findByNickname(String nickname);
-    Optional<User> findByPhone(String phone);
+public interface UserRepository extends JpaRepository<User, Long>, UserNaturalIdRepository {
 
+    // 샤딩 사용시 @ShardKey 값으로 디렉터리에서 유저의 샤드를 찾아 그 샤드에서만 조회
+    Optional<User> findById(@ShardKey(USER_ID) Long id);
+    User getReferenceById(@ShardKey(USER_ID) Long id);
+    @Override
+    Optional<User> findByEmail(@ShardKey(EMAIL) String email);
+    Optional<User> findByNickname(@ShardKey(NICKNAME) String nickname);
+    Optional<User> findByPhone(@ShardKey(PHONE) String phone);
+    boolean existsByEmail(@ShardKey(EMAIL) String email);
+    boolean existsByNickname(@ShardKey(NICKNAME) String nickname);
+
+    // 로그인용 유저 조회 - 읽기 전용 트랜잭션이 아니므로 복제본이 아닌 primary 에서 조회
+    @Transactional
+    @Query("select u from User u where u.email = :email")
+    Optional<User> findForLoginByEmail(@ShardKey(EMAIL) @Param("email") String email);
+
+    // 대표주소 스냅샷만 조회 (대표주소가 없으면 빈 값)
+    @Query("select u.defaultAddress from User u where u.id = :id")
+    Optional<DefaultAddress> findDefaultAddressById(@ShardKey(USER_ID) @Param("id") Long id);
+
+    /*
+        대표주소 스냅샷 동기화 - user_address_list 의 현재 대표주소를 유저 행에 복사 (대표주소가 없으면 null)
+        - 주소 변경과 같은 트랜잭션에서 호출되며, 아직 반영되지 않은 변경을 먼저 flush 한 뒤 한 번의 UPDATE 로 처리
+        - JPQL UPDATE 는 2차 캐시의 user 영역 전체를 비우므로 동기화 테이블을 user_address_list 로 지정한 네이티브 UPDATE 로 실행
+          (해당 유저의 캐시는 커밋 후 UserEntityCacheEvictor 가 제거)
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HINT_NATIVE_SPACES, value = "user_address_list"))
+    @Query(nativeQuery = true, value = """
+            update user set
+                default_address_id = (select a.id from user_address_list ual join address a on a.id = ual.address_id
+                                      where ual.user_id = :id and ual.default_address = true),
+                default_local_address = (select a.local_address from user_address_list ual
+                                         join address a on a.id = ual.address_id
+                                         where ual.user_id = :id and ual.default_address = true),
+                default_extra_address = (select a.extra_address from user_address_list ual
+                                         join address a on a.id = ual.address_id
+                                         where ual.user_id = :id and ual.default_address = true),
+                default_local_code = (select a.local_code from user_address_list ual join address a on a.id = ual.address_id
+                                      where ual.user_id = :id and ual.default_address = true)
+            where id = :id
+            """)
+    int syncDefaultAddress(@ShardKey(USER_ID) @Param("id") Long id);
+
+    // 대표주소 스냅샷이 user_address_list 와 다른 유저 id 조회 (id 순으로 afterId 이후부터, 샤딩 사용시 샤드별로 호출)
+    // 주소 컬럼은 not null 이므로 스냅샷 컬럼이 null 이면 다른 것으로 봄 (null 과의 <> 비교는 참이 되지 않음)
+    @Query("""
+            select u.id from User u
+            left join UserAddressList ual on ual.user = u and ual.defaultAddress = true
+            left join ual.address a
+            where u.id > :afterId
+              and ((a.id is null and u.defaultAddress.addressId is not null)
+                or (a.id is not null and (u.defaultAddress.addressId is null
+                                          or u.defaultAddress.addressId <> a.id
+                                          or u.defaultAddress.localAddress is null
+                                          or u.defaultAddress.localAddress <> a.localAddress
+                                          or u.defaultAddress.extraAddress is null
+                                          or u.defaultAddress.extraAddress <> a.extraAddress
+                                          or u.defaultAddress.localCode is null
+                                          or u.defaultAddress.localCode <> a.localCode)))
+            order by u.id
+            """)
+    List<Long> findDefaultAddressDriftIds(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 비밀번호 변경 (엔티티 조회 없이 바로 갱신, 해시 설정 변경 후 재저장에만 사용되므로 2차 캐시 user 영역 전체 제거를 허용)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update User u set u.password = :password where u.id = :id")
+    int updatePassword(@ShardKey(USER_ID) @Param("id") Long id, @Param("password") String password);
+
+    // 리뷰 작성자 정보 일괄 조회 - User 엔티티를 만들지 않고 필요한 컬럼만 조회
+    @ShardFanOut
+    @Query("select new spharos.user.users.dto.ReviewWriterDto(u.id, u.email, u.profileImageUrl, u.nickname) "
+            + "from User u where u.email in :emails")
+    List<ReviewWriterDto> findReviewWritersByEmailIn(@Param("emails") Collection<String> emails);
+
+    // 이메일 또는 닉네임이 이미 사용중인 유저 키 일괄 조회 (대량 가져오기 중복 제거용)
+    // OR 조건은 인덱스를 하나만 쓰거나 전체 스캔이 되므로 각 인덱스를 타는 두 조회를 UNION 으로 합침
+    @ShardFanOut
+    @Query("""
+            select new spharos.user.users.dto.UserKeyDto(u.email, u.nickname) from User u where u.email in :emails
+            union
+            select new spharos.user.users.dto.UserKeyDto(u.email, u.nickname) from User u where u.nickname in :nicknames
+            """)
+    List<UserKeyDto> findKeysByEmailInOrNicknameIn(@Param("emails") Collection<String> emails,
+                                                   @Param("nicknames") Collection<String> nicknames);
+
+    // 전체 유저의 이메일, 닉네임 스트리밍 조회 (MySQL 드라이버는 fetch size 가 Integer.MIN_VALUE 일 때 행 단위로 읽음)
+    // 샤딩 사용시 샤드별로 호출
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "-2147483648"))
+    @Query("select new spharos.user.users.dto.UserKeyDto(u.email, u.nickname) from User u")
+    Stream<UserKeyDto> streamAllKeys();
 
 }
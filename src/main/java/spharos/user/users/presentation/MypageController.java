@@ -3,9 +3,17 @@ package spharos.user.users.presentation;
 import io.swagger.v3.oas.annotations.Operation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import spharos.user.global.common.response.BaseResponse;
+import spharos.user.global.config.async.AuthWorkExecutor;
+import spharos.user.global.config.async.AuthWorkload;
+import spharos.user.global.config.security.AuthUser;
+import spharos.user.users.application.MypageBootstrapService;
+import spharos.user.users.application.MypagePart;
 import spharos.user.users.application.UserService;
+import spharos.user.users.application.UserVersionStamp;
 import spharos.user.users.dto.UserModifyDto;
 import spharos.user.users.dto.UserPasswordChangeDto;
 import spharos.user.users.dto.UserPasswordCheckDto;
@@ -14,10 +22,14 @@ import spharos.user.users.vo.request.UserInformationModifyRequest;
 import spharos.user.users.vo.request.UserMypageChangePasswordRequest;
 import spharos.user.users.vo.request.UserPasswordCheckRequest;
 import spharos.user.users.vo.request.UserWithdrawCheckRequest;
+import spharos.user.users.vo.response.MypageBootstrapResponse;
 import spharos.user.users.vo.response.UserInformationResponse;
 import spharos.user.users.vo.response.UserPasswordCheckResponse;
 import spharos.user.users.vo.response.UserWithdrawCheckResponse;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @RequiredArgsConstructor
 @RestController
@@ -25,6 +37,9 @@ import spharos.user.users.vo.response.UserWithdrawCheckResponse;
 public class MypageController {
 
     private final UserService userService;
+    private final UserVersionStamp userVersionStamp;
+    private final MypageBootstrapService mypageBootstrapService;
+    private final AuthWorkExecutor authWorkExecutor;
 
     /*
         비밀번호확인
@@ -33,33 +48,59 @@ public class MypageController {
             description = "마이페이지에 들어가기전 비밀번호확인",
             tags = { "User Mypage" })
     @PostMapping("/password/check")
-    public BaseResponse<?> checkPassword(@RequestHeader("email") String email,
-                                         @RequestBody UserPasswordCheckRequest userPasswordCheckRequest) {
+    public CompletableFuture<BaseResponse<?>> checkPassword(@AuthenticationPrincipal AuthUser authUser,
+                                                            @RequestBody UserPasswordCheckRequest userPasswordCheckRequest) {
 
         UserPasswordCheckDto dto = UserPasswordCheckDto.builder()
-                .email(email)
+                .email(authUser.getEmail())
                 .password(userPasswordCheckRequest.getPassword())
                 .build();
 
-        // 비밀번호 일치 확인
-        Boolean checkResult = userService.checkPassword(dto);
+        return authWorkExecutor.submit(AuthWorkload.PASSWORD_CHECK, () -> {
+            // 비밀번호 일치 확인
+            Boolean checkResult = userService.checkPassword(dto);
 
-        UserPasswordCheckResponse response = UserPasswordCheckResponse.builder()
-                .checkResult(checkResult)
-                .build();
+            UserPasswordCheckResponse response = UserPasswordCheckResponse.builder()
+                    .checkResult(checkResult)
+                    .build();
 
-        return new BaseResponse<>(response);
+            return new BaseResponse<>(response);
+        });
     }
 
     /*
         회원정보조회
+        - 버전 스탬프 ETag 가 If-None-Match 와 같으면 회원정보를 읽지 않고 304
      */
     @Operation(summary = "회원정보조회", description = "회원정보조회", tags = { "User Mypage" })
     @GetMapping("/info")
-    public BaseResponse<?> getUserInformation(@RequestHeader("email") String email) {
+    public BaseResponse<?> getUserInformation(@AuthenticationPrincipal AuthUser authUser,
+                                              ServletWebRequest webRequest) {
+
+        if (userVersionStamp.checkNotModified(authUser.getUserId(), "info", webRequest)) {
+            return null;
+        }
 
         // 회원정보 조회
-        UserInformationResponse response = userService.getUserInformation(email);
+        UserInformationResponse response = userService.getUserInformation(authUser.getEmail());
+
+        return new BaseResponse<>(response);
+    }
+
+    /*
+        마이페이지 부트스트랩 조회
+        - 회원정보, 주소리스트, 대표주소를 한 번에 조회 (fields=info,address,defaultAddress 중 선택, 없으면 전체)
+        - 일부 항목이 실패해도 나머지는 응답하고 실패한 항목은 failedParts 로 알림
+     */
+    @Operation(summary = "마이페이지 부트스트랩 조회",
+            description = "회원정보, 주소리스트, 대표주소를 한 번에 조회",
+            tags = { "User Mypage" })
+    @GetMapping("/bootstrap")
+    public BaseResponse<?> getBootstrap(@AuthenticationPrincipal AuthUser authUser,
+                                        @RequestParam(value = "fields", required = false) List<String> fields) {
+
+        MypageBootstrapResponse response = mypageBootstrapService.getBootstrap(authUser,
+                MypagePart.fromFields(fields));
 
         return new BaseResponse<>(response);
     }
@@ -69,12 +110,12 @@ public class MypageController {
      */
     @Operation(summary = "회원정보 수정", description = "회원정보 수정", tags = { "User Mypage" })
     @PutMapping("/info")
-    public BaseResponse<?> modifyUserInformation(@RequestHeader("email") String email,
+    public BaseResponse<?> modifyUserInformation(@AuthenticationPrincipal AuthUser authUser,
                                                  @RequestBody UserInformationModifyRequest request)
     {
         // 회원정보 수정
         UserModifyDto userModifyDto = UserModifyDto.builder()
-                .email(email)
+                .email(authUser.getEmail())
                 .username(request.getUsername())
                 .birthday(request.getBirthday())
                 .nickname(request.getNickname())
@@ -89,16 +130,18 @@ public class MypageController {
      */
     @Operation(summary = "비밀번호변경", description = "마이페이지에서 비밀번호변경", tags = { "User Mypage" })
     @PutMapping("/password")
-    public BaseResponse<?> modifyUserInformation(@RequestHeader("email") String email,
-                                                 @RequestBody UserMypageChangePasswordRequest request) {
+    public CompletableFuture<BaseResponse<?>> modifyUserInformation(@AuthenticationPrincipal AuthUser authUser,
+                                                                    @RequestBody UserMypageChangePasswordRequest request) {
 
         // 비밀번호변경
         UserPasswordChangeDto dto = UserPasswordChangeDto.builder()
-                .email(email)
+                .email(authUser.getEmail())
                 .password(request.getPassword())
                 .build();
-        userService.modifyPassword(dto);
-        return new BaseResponse<>();
+        return authWorkExecutor.submit(AuthWorkload.PASSWORD_CHANGE, () -> {
+            userService.modifyPassword(dto);
+            return new BaseResponse<>();
+        });
     }
 
     /*
@@ -106,23 +149,25 @@ public class MypageController {
      */
     @Operation(summary = "회원확인", description = "회원탈퇴 진행 전 회원확인을 실시", tags = { "User Mypage" })
     @PostMapping("/withdraw/check")
-    public BaseResponse<?> checkUserBeforeWithdraw(@RequestHeader("email") String email,
-                                                 @RequestBody UserWithdrawCheckRequest request)
+    public CompletableFuture<BaseResponse<?>> checkUserBeforeWithdraw(@AuthenticationPrincipal AuthUser authUser,
+                                                                      @RequestBody UserWithdrawCheckRequest request)
     {
         // 회원탈퇴 진행 전 회원확인을 실시
         UserWithdrawCheckDto dto = UserWithdrawCheckDto.builder()
-                .loginEmail(email)
+                .loginEmail(authUser.getEmail())
                 .inputEmail(request.getEmail())
                 .password(request.getPassword())
                 .username(request.getUsername())
                 .build();
 
-        Boolean checkResult = userService.checkUserBeforeWithdraw(dto);
+        return authWorkExecutor.submit(AuthWorkload.PASSWORD_CHECK, () -> {
+            Boolean checkResult = userService.checkUserBeforeWithdraw(dto);
 
-        UserWithdrawCheckResponse response = UserWithdrawCheckResponse.builder()
-                .checkResult(checkResult)
-                .build();
-        return new BaseResponse<>(response);
+            UserWithdrawCheckResponse response = UserWithdrawCheckResponse.builder()
+                    .checkResult(checkResult)
+                    .build();
+            return new BaseResponse<>(response);
+        });
     }
 
     /*
@@ -130,10 +175,10 @@ public class MypageController {
      */
     @Operation(summary = "회원탈퇴", description = "회원탈퇴", tags = { "User Mypage" })
     @PutMapping("/withdraw")
-    public BaseResponse<?> withdrawUser(@RequestHeader("email") String email) {
+    public BaseResponse<?> withdrawUser(@AuthenticationPrincipal AuthUser authUser) {
 
         // 회원탈퇴
-        userService.withdrawUser(email);
+        userService.withdrawUser(authUser.getEmail());
         return new BaseResponse<>();
     }
 
@@ -1,11 +1,20 @@
 package spharos.user.users.presentation;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import spharos.user.global.common.response.ErrorResponse;
+import spharos.user.global.exception.CustomException;
 import spharos.user.users.application.ReviewService;
 import spharos.user.users.dto.ReviewWriterDto;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -15,14 +24,36 @@ import java.util.List;
 public class ReviewController {
 
     private final ReviewService reviewService;
+    private final ObjectMapper objectMapper;
 
     @Operation(summary = "리뷰 작성자 정보 조회",
-            description = "해당 업체에 리뷰를 작성한 유저들의 email을 리스트에 담아 요청",
+            description = "해당 업체에 리뷰를 작성한 유저들의 email을 리스트에 담아 요청 (중복 제거, 요청 순서 유지)",
             tags = { "Retrieve Review Writer User" })
     @PostMapping("/review/writer")
-    public List<ReviewWriterDto> getReviewWriter(@RequestBody List<String> emailList) {
+    public List<ReviewWriterDto> getReviewWriter(@RequestBody List<String> emailList,
+                                                 @RequestParam(value = "includeUnknown", defaultValue = "false")
+                                                 boolean includeUnknown) {
+
+        return reviewService.retrieveReviewWriter(emailList, includeUnknown);
+
+    }
+
+    @Operation(summary = "리뷰 작성자 정보 스트리밍 조회",
+            description = "대량의 email 배열을 스트리밍으로 읽어 작성자 정보를 NDJSON 으로 응답 "
+                    + "(응답 도중 오류가 나면 마지막 줄에 success=false 인 에러 레코드)",
+            tags = { "Retrieve Review Writer User" })
+    @PostMapping(value = "/review/writer/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void streamReviewWriter(HttpServletRequest request, HttpServletResponse response) throws IOException {
 
-        return reviewService.retrieveReviewWriter(emailList);
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        try {
+            reviewService.streamReviewWriter(request.getInputStream(), response.getOutputStream());
+        } catch (CustomException e) {
+            // 응답을 쓰기 전의 오류는 일반 에러 응답 (NDJSON 으로 선언된 핸들러라 예외 처리기 대신 직접 씀)
+            response.resetBuffer();
+            ErrorResponse.write(response, objectMapper, e.getResponseCode());
+        }
 
     }
 }
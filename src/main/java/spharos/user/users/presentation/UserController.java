@@ -5,13 +5,19 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
 import spharos.user.global.common.response.BaseResponse;
+import spharos.user.global.config.async.AuthWorkExecutor;
+import spharos.user.global.config.async.AuthWorkload;
+import spharos.user.users.application.TokenService;
 import spharos.user.users.application.UserService;
 import spharos.user.users.dto.UserPasswordChangeDto;
 import spharos.user.users.vo.request.UserChangePasswordRequest;
 import spharos.user.users.vo.request.UserLoginRequest;
 import spharos.user.users.vo.request.UserSignUpRequest;
+import spharos.user.users.vo.request.UserTokenRefreshRequest;
 import spharos.user.users.vo.response.*;
 
+import java.util.concurrent.CompletableFuture;
+
 
 @Slf4j
 @RequiredArgsConstructor
@@ -20,6 +26,8 @@ import spharos.user.users.vo.response.*;
 public class UserController {
 
     private final UserService userService;
+    private final TokenService tokenService;
+    private final AuthWorkExecutor authWorkExecutor;
 
     /*
         이메일 중복 체크
@@ -60,22 +68,40 @@ public class UserController {
 
     /*
         회원가입
+        - 비밀번호 해시와 저장은 인증 작업 스레드풀에서 실행 (Tomcat 스레드는 바로 반환)
      */
     @Operation(summary = "회원가입", description = "회원가입", tags = { "User SignUp" })
     @PostMapping("/join")
-    public BaseResponse<?> join(@RequestBody UserSignUpRequest userSignUpRequest) {
-        UserSignUpResponse userSignUpResponse = userService.join(userSignUpRequest);
-        return new BaseResponse<>(userSignUpResponse);
+    public CompletableFuture<BaseResponse<?>> join(@RequestBody UserSignUpRequest userSignUpRequest) {
+        return authWorkExecutor.submit(AuthWorkload.JOIN, () -> {
+            UserSignUpResponse userSignUpResponse = userService.join(userSignUpRequest);
+            return new BaseResponse<>(userSignUpResponse);
+        });
     }
 
     /*
         로그인
+        - 비밀번호 검증은 인증 작업 스레드풀에서 실행 (Tomcat 스레드는 바로 반환)
      */
     @Operation(summary = "로그인", description = "로그인", tags = { "User Login" })
     @PostMapping("/login")
-    public BaseResponse<?> loginIn(@RequestBody UserLoginRequest userLoginRequest) {
-        UserLoginResponse userLoginResponse = userService.login(userLoginRequest);
-        return new BaseResponse<>(userLoginResponse);
+    public CompletableFuture<BaseResponse<?>> loginIn(@RequestBody UserLoginRequest userLoginRequest) {
+        return authWorkExecutor.submit(AuthWorkload.LOGIN, () -> {
+            UserLoginResponse userLoginResponse = userService.login(userLoginRequest);
+            return new BaseResponse<>(userLoginResponse);
+        });
+    }
+
+    /*
+        토큰 재발급
+     */
+    @Operation(summary = "토큰 재발급",
+            description = "리프레시 토큰으로 Access 토큰과 새 리프레시 토큰을 발급 (이미 사용된 리프레시 토큰이면 해당 기기의 토큰 전체 폐기)",
+            tags = { "User Login" })
+    @PostMapping("/token/refresh")
+    public BaseResponse<?> refreshToken(@RequestBody UserTokenRefreshRequest userTokenRefreshRequest) {
+        UserTokenResponse response = tokenService.refresh(userTokenRefreshRequest.getRefreshToken());
+        return new BaseResponse<>(response);
     }
 
     /*
@@ -121,15 +147,18 @@ public class UserController {
             description = "비밀번호 변경",
             tags = { "User ChangePassword" })
     @PutMapping("/password")
-    public BaseResponse<?> changePassword(@RequestBody UserChangePasswordRequest userChangePasswordRequest) {
+    public CompletableFuture<BaseResponse<?>> changePassword(
+            @RequestBody UserChangePasswordRequest userChangePasswordRequest) {
 
         // 비밀번호 변경
         UserPasswordChangeDto dto = UserPasswordChangeDto.builder()
                 .email(userChangePasswordRequest.getEmail())
                 .password(userChangePasswordRequest.getPassword())
                 .build();
-        userService.modifyPassword(dto);
-        return new BaseResponse<>();
+        return authWorkExecutor.submit(AuthWorkload.PASSWORD_CHANGE, () -> {
+            userService.modifyPassword(dto);
+            return new BaseResponse<>();
+        });
     }
 
 }
@@ -0,0 +1,56 @@
+package spharos.user.users.presentation;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+import spharos.user.users.application.UserImportService;
+import spharos.user.users.dto.UserImportResultDto;
+import spharos.user.users.infrastructure.UserImportReader;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+/*
+    유저 대량 가져오기 실행 (웹 서버 없이 실행 후 종료)
+    실행 : java -jar user.jar --spring.profiles.active=secret,import --user-import.file=/data/partner.csv
+    - 형식은 확장자로 판단 (.csv 외에는 NDJSON), 같은 명령으로 다시 실행하면 체크포인트부터 이어서 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "user-import.file")
+public class UserImportRunner implements ApplicationRunner {
+
+    private final UserImportService userImportService;
+    private final ConfigurableApplicationContext applicationContext;
+
+    @Value("${user-import.file}")
+    private String file;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        Path path = Path.of(file);
+        UserImportReader.Format format = path.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".csv")
+                ? UserImportReader.Format.CSV : UserImportReader.Format.NDJSON;
+
+        int exitCode = 0;
+        try {
+            UserImportResultDto result = userImportService.importUsers(path, format);
+            log.info("user import result. processed={}, imported={}, rejected={}, elapsedMillis={}",
+                    result.getProcessed(), result.getImported(), result.getRejected(), result.getElapsedMillis());
+        } catch (Exception e) {
+            log.error("user import failed. file={}", file, e);
+            exitCode = 1;
+        }
+
+        int code = exitCode;
+        System.exit(SpringApplication.exit(applicationContext, () -> code));
+    }
+
+}
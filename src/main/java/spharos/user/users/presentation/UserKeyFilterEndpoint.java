@@ -0,0 +1,36 @@
+package spharos.user.users.presentation;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+import spharos.user.users.application.UserKeyFilter;
+import spharos.user.users.vo.response.UserKeyFilterStatsResponse;
+
+import java.util.Map;
+
+/*
+    이메일/닉네임 중복 체크 필터 운영용 엔드포인트
+    - GET  /actuator/userkeyfilter : 필터 상태 및 오탐률 조회
+    - POST /actuator/userkeyfilter : 필터 재구성
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "userkeyfilter")
+public class UserKeyFilterEndpoint {
+
+    private final UserKeyFilter userKeyFilter;
+
+    @ReadOperation
+    public Map<UserKeyFilter.Type, UserKeyFilterStatsResponse> stats() {
+        return userKeyFilter.getStats();
+    }
+
+    @WriteOperation
+    public Map<UserKeyFilter.Type, UserKeyFilterStatsResponse> rebuild() {
+        userKeyFilter.rebuild();
+        return userKeyFilter.getStats();
+    }
+
+}
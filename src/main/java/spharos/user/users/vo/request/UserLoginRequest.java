@@ -7,5 +7,6 @@ public class UserLoginRequest {
 
     private String email;
     private String password;
+    private String deviceId;
 
 }
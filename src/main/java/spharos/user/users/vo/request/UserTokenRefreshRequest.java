@@ -0,0 +1,10 @@
+package spharos.user.users.vo.request;
+
+import lombok.Getter;
+
+@Getter
+public class UserTokenRefreshRequest {
+
+    private String refreshToken;
+
+}
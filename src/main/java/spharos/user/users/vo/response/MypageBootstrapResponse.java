@@ -0,0 +1,31 @@
+package spharos.user.users.vo.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import spharos.user.address.vo.AddressDefaultResponse;
+import spharos.user.address.vo.AddressResponse;
+
+import java.util.List;
+import java.util.Map;
+
+/*
+    마이페이지 부트스트랩 응답
+    - 요청하지 않았거나 실패한 항목은 null (응답에서 제외)
+    - failedParts 는 실패한 항목과 사유 (TIMEOUT, REJECTED, ERROR 또는 ResponseCode 이름)
+ */
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MypageBootstrapResponse {
+
+    private UserInformationResponse info;
+    private List<AddressResponse> address;
+    private AddressDefaultResponse defaultAddress;
+    private Map<String, String> failedParts;
+
+}
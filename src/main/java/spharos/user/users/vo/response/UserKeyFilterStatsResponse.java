@@ -0,0 +1,24 @@
+package spharos.user.users.vo.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserKeyFilterStatsResponse {
+
+    private Boolean ready;
+    private Boolean shared;
+    private Long bitSize;
+    private Integer hashCount;
+    private Double expectedFalsePositiveProbability;
+    private Double observedFalsePositiveRate;
+    private Long absentCount;
+    private Long presentCount;
+    private Long falsePositiveCount;
+
+}
@@ -12,6 +12,7 @@ import lombok.NoArgsConstructor;
 public class UserLoginResponse {
 
     private String token;
+    private String refreshToken;
     private String email;
     private String username;
     private String address;
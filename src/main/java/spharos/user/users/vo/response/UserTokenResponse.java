@@ -0,0 +1,17 @@
+package spharos.user.users.vo.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserTokenResponse {
+
+    private String token;
+    private String refreshToken;
+
+}
@@ -0,0 +1,34 @@
+-- 기존 Hibernate 자동 생성 스키마 (이미 테이블이 있는 DB 는 baseline 으로 처리되어 실행되지 않음)
+create table user (
+    id                bigint       not null auto_increment,
+    email             varchar(50)  not null,
+    password          varchar(255) not null,
+    birthday          varchar(8)   not null,
+    username          varchar(30)  not null,
+    nickname          varchar(10)  not null,
+    phone             varchar(11)  not null,
+    profile_image_url varchar(255),
+    status            tinyint      not null default 0,
+    created_at        datetime(6),
+    updated_at        datetime(6),
+    primary key (id),
+    constraint uk_user_email unique (email)
+);
+
+create table address (
+    id            bigint       not null auto_increment,
+    local_address varchar(100) not null,
+    extra_address varchar(100) not null,
+    local_code    integer      not null,
+    primary key (id)
+);
+
+create table user_address_list (
+    id              bigint  not null auto_increment,
+    user_id         bigint  not null,
+    address_id      bigint  not null,
+    default_address boolean not null default false,
+    primary key (id),
+    constraint fk_user_address_list_user foreign key (user_id) references user (id),
+    constraint fk_user_address_list_address foreign key (address_id) references address (id)
+);
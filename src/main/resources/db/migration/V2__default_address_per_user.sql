@@ -0,0 +1,14 @@
+-- 유저당 대표주소 1개를 DB 에서 보장
+
+-- 대표주소가 여러 개인 유저는 가장 먼저 등록된 주소만 남김
+update user_address_list
+set default_address = false
+where default_address = true
+  and id not in (select keep_id from (select min(id) as keep_id from user_address_list
+                                      where default_address = true group by user_id) keep);
+
+-- 대표주소인 경우에만 user_id 를 갖는 생성 컬럼 + 유니크 인덱스
+alter table user_address_list
+    add column default_user_id bigint generated always as (case when default_address then user_id end);
+
+create unique index uk_user_address_list_default_user on user_address_list (default_user_id);
@@ -0,0 +1,15 @@
+-- 유저 행의 대표주소 스냅샷
+alter table user add column default_address_id bigint;
+alter table user add column default_local_address varchar(100);
+alter table user add column default_extra_address varchar(100);
+alter table user add column default_local_code integer;
+
+update user u
+set default_address_id    = (select a.id from user_address_list ual join address a on a.id = ual.address_id
+                             where ual.user_id = u.id and ual.default_address = true),
+    default_local_address = (select a.local_address from user_address_list ual join address a on a.id = ual.address_id
+                             where ual.user_id = u.id and ual.default_address = true),
+    default_extra_address = (select a.extra_address from user_address_list ual join address a on a.id = ual.address_id
+                             where ual.user_id = u.id and ual.default_address = true),
+    default_local_code    = (select a.local_code from user_address_list ual join address a on a.id = ual.address_id
+                             where ual.user_id = u.id and ual.default_address = true);
@@ -0,0 +1,10 @@
+-- pooled-lo id 생성용 테이블 (next_val 은 다음에 예약할 구간의 첫 id)
+create table id_sequence (
+    sequence_name varchar(255) not null,
+    next_val      bigint,
+    primary key (sequence_name)
+);
+
+insert into id_sequence (sequence_name, next_val) select 'user', coalesce(max(id), 0) + 1 from user;
+insert into id_sequence (sequence_name, next_val) select 'address', coalesce(max(id), 0) + 1 from address;
+insert into id_sequence (sequence_name, next_val) select 'user_address_list', coalesce(max(id), 0) + 1 from user_address_list;
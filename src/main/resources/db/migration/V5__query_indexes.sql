@@ -0,0 +1,7 @@
+-- UserRepository : findByNickname, existsByNickname, 대량 가져오기 중복 확인
+create index ix_user_nickname on user (nickname);
+-- UserRepository : findByPhone (이메일 찾기)
+create index ix_user_phone on user (phone);
+
+-- UserAddressListRepository : findByUserIdAndDefaultAddress, 주소리스트 조회, 대표주소 변경 (주소 id 까지 인덱스에서 읽음)
+create index ix_user_address_list_user_default on user_address_list (user_id, default_address, address_id);
@@ -0,0 +1,16 @@
+-- 샤딩 사용시 유저 -> 샤드 디렉터리 (0번 샤드의 테이블만 사용, 다른 샤드에는 빈 테이블로 존재)
+-- target_shard 는 샤드 이동 중인 유저의 대상 샤드 (이동 중에는 원본 샤드의 쓰기를 대상 샤드에도 반영)
+create table user_shard (
+    user_id      bigint      not null,
+    email        varchar(50) not null,
+    nickname     varchar(10) not null,
+    phone        varchar(11) not null,
+    shard        integer     not null,
+    target_shard integer,
+    primary key (user_id),
+    constraint uk_user_shard_email unique (email)
+);
+
+create index ix_user_shard_nickname on user_shard (nickname);
+create index ix_user_shard_phone on user_shard (phone);
+create index ix_user_shard_target on user_shard (target_shard);
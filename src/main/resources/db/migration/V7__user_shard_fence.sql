@@ -0,0 +1,9 @@
+-- 샤드 이동이 끝난 유저의 원본 샤드 펜스 (모든 샤드에 존재)
+-- 펜스가 있는 유저의 원본 샤드 쓰기는 거부하고, 원본 행은 디렉터리 캐시가 만료된 뒤 펜스와 함께 삭제
+create table user_shard_fence (
+    user_id   bigint      not null,
+    fenced_at datetime(6) not null,
+    primary key (user_id)
+);
+
+create index ix_user_shard_fence_fenced_at on user_shard_fence (fenced_at);
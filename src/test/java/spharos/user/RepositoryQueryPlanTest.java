@@ -0,0 +1,127 @@
+package spharos.user;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import spharos.user.address.domain.Address;
+import spharos.user.address.infrastructure.UserAddressListRepository;
+import spharos.user.users.infrastructure.UserRepository;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+    리포지토리 조회 쿼리 실행계획 검사
+    - 각 조회 메서드를 호출해 Hibernate 가 만든 SQL 을 가로챈 뒤, 같은 SQL 을 EXPLAIN 하여 전체 테이블 스캔이 있으면 실패
+    - 조건으로 행을 찾는 UPDATE 문(switchDefaultAddress 등)도 같은 방식으로 검사
+    - 전체 유저를 읽는 것이 목적인 streamAllKeys 와 findAll 류는 대상에서 제외
+    - 새 조회 메서드를 추가하면 QUERIES 에도 추가
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "spharos.user.RepositoryQueryPlanTest$SqlCaptor")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class RepositoryQueryPlanTest {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private UserAddressListRepository userAddressListRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        SqlCaptor.CAPTURED.clear();
+    }
+
+    @Test
+    void repositoryQueriesUseIndexes() throws Exception {
+        Map<String, Runnable> queries = Map.ofEntries(
+                Map.entry("UserRepository.findByEmail", () -> userRepository.findByEmail("a@test.com")),
+                Map.entry("UserRepository.findForLoginByEmail", () -> userRepository.findForLoginByEmail("a@test.com")),
+                Map.entry("UserRepository.findByNickname", () -> userRepository.findByNickname("nick")),
+                Map.entry("UserRepository.findByPhone", () -> userRepository.findByPhone("01012345678")),
+                Map.entry("UserRepository.existsByEmail", () -> userRepository.existsByEmail("a@test.com")),
+                Map.entry("UserRepository.existsByNickname", () -> userRepository.existsByNickname("nick")),
+                Map.entry("UserRepository.findDefaultAddressById", () -> userRepository.findDefaultAddressById(1L)),
+                Map.entry("UserRepository.findReviewWritersByEmailIn",
+                        () -> userRepository.findReviewWritersByEmailIn(List.of("a@test.com", "b@test.com"))),
+                Map.entry("UserRepository.findKeysByEmailInOrNicknameIn",
+                        () -> userRepository.findKeysByEmailInOrNicknameIn(List.of("a@test.com"), List.of("nick"))),
+                Map.entry("UserRepository.findDefaultAddressDriftIds",
+                        () -> userRepository.findDefaultAddressDriftIds(0L, PageRequest.of(0, 100))),
+                Map.entry("UserAddressListRepository.findByUserIdAndDefaultAddress",
+                        () -> userAddressListRepository.findByUserIdAndDefaultAddress(1L, Boolean.TRUE)),
+                Map.entry("UserAddressListRepository.findByUserId", () -> userAddressListRepository.findByUserId(1L)),
+                Map.entry("UserAddressListRepository.findByAddress",
+                        () -> userAddressListRepository.findByAddress(entityManager.getReference(Address.class, 1L))),
+                Map.entry("UserAddressListRepository.switchDefaultAddress",
+                        () -> userAddressListRepository.switchDefaultAddress(1L, 1L)),
+                Map.entry("UserAddressListRepository.findAddressListForSearchByUserId",
+                        () -> userAddressListRepository.findAddressListForSearchByUserId(1L)));
+
+        List<String> fullScans = new ArrayList<>();
+        for (Map.Entry<String, Runnable> query : queries.entrySet()) {
+            SqlCaptor.CAPTURED.clear();
+            query.getValue().run();
+            assertFalse(SqlCaptor.CAPTURED.isEmpty(), query.getKey() + " did not run any sql");
+
+            for (String sql : SqlCaptor.CAPTURED) {
+                String plan = explain(sql);
+                if (plan.contains(".tableScan")) {
+                    fullScans.add(query.getKey() + "\n  " + sql + "\n  " + plan.replace("\n", "\n  "));
+                }
+            }
+        }
+
+        assertTrue(fullScans.isEmpty(), "full table scan:\n" + String.join("\n", fullScans));
+    }
+
+    // 파라미터는 모두 같은 값으로 바인딩 (H2 는 값과 무관하게 인덱스 사용 여부가 정해짐)
+    private String explain(String sql) throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("explain " + sql)) {
+            int parameterCount = statement.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameterCount; i++) {
+                statement.setString(i, "1");
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getString(1);
+            }
+        }
+    }
+
+    public static class SqlCaptor implements StatementInspector {
+
+        static final List<String> CAPTURED = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            String statement = sql.trim().toLowerCase();
+            if (statement.startsWith("select") || statement.startsWith("update")) {
+                CAPTURED.add(sql);
+            }
+            return sql;
+        }
+
+    }
+
+}
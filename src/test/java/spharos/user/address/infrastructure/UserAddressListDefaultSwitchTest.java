@@ -0,0 +1,130 @@
+package spharos.user.address.infrastructure;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import spharos.user.address.domain.Address;
+import spharos.user.address.domain.UserAddressList;
+import spharos.user.users.domain.User;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 대표주소 변경을 여러 스레드에서 동시에 실행해도 유저당 대표주소가 항상 1개인지 확인 (각 변경은 별도 트랜잭션으로 커밋)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserAddressListDefaultSwitchTest {
+
+    private static final int ADDRESS_COUNT = 5;
+    private static final int THREAD_COUNT = 16;
+    private static final int SWITCH_PER_THREAD = 50;
+
+    @Autowired
+    private UserAddressListRepository userAddressListRepository;
+    @Autowired
+    private EntityManager em;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Long userId;
+    private final List<Long> addressIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = User.createUser("user@test.com", "pw", "19900101", "유저", "닉네임", "01012345678", 0);
+            em.persist(user);
+            for (int i = 0; i < ADDRESS_COUNT; i++) {
+                Address address = Address.createAddress("local" + i, "extra" + i, i);
+                em.persist(address);
+                em.persist(UserAddressList.createUserAddressList(user, address, i == 0));
+                addressIds.add(address.getId());
+            }
+            userId = user.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            em.createQuery("delete from UserAddressList").executeUpdate();
+            em.createQuery("delete from Address").executeUpdate();
+            em.createQuery("delete from User").executeUpdate();
+        });
+    }
+
+    @Test
+    void concurrentSwitchKeepsSingleDefault() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger switched = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREAD_COUNT; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < SWITCH_PER_THREAD; i++) {
+                    Long addressId = addressIds.get(ThreadLocalRandom.current().nextInt(ADDRESS_COUNT));
+                    Integer updated = transactionTemplate.execute(status ->
+                            userAddressListRepository.switchDefaultAddress(userId, addressId));
+                    assertEquals(ADDRESS_COUNT, updated);
+                    switched.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(THREAD_COUNT * SWITCH_PER_THREAD, switched.get());
+        assertEquals(1L, countDefaults());
+    }
+
+    @Test
+    void switchToOtherUsersAddressChangesNothing() {
+        Integer updated = transactionTemplate.execute(status ->
+                userAddressListRepository.switchDefaultAddress(userId + 1, addressIds.get(1)));
+
+        assertEquals(0, updated);
+        assertEquals(1L, countDefaults());
+    }
+
+    @Test
+    void secondDefaultIsRejectedByDatabase() {
+        assertThrows(DataIntegrityViolationException.class, () -> transactionTemplate.executeWithoutResult(status -> {
+            Address address = Address.createAddress("local", "extra", 0);
+            em.persist(address);
+            userAddressListRepository.saveAndFlush(
+                    UserAddressList.createUserAddressList(em.getReference(User.class, userId), address, true));
+        }));
+    }
+
+    private long countDefaults() {
+        return em.createQuery("select count(ual) from UserAddressList ual where ual.user.id = :userId"
+                        + " and ual.defaultAddress = true", Long.class)
+                .setParameter("userId", userId)
+                .getSingleResult();
+    }
+
+}
@@ -0,0 +1,81 @@
+package spharos.user.address.infrastructure;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import spharos.user.address.domain.Address;
+import spharos.user.address.domain.UserAddressList;
+import spharos.user.address.vo.AddressListForSearchResponse;
+import spharos.user.users.domain.User;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class UserAddressListRepositoryTest {
+
+    @Autowired
+    private UserAddressListRepository userAddressListRepository;
+    @Autowired
+    private EntityManager em;
+
+    private Statistics statistics;
+    private Long userId;
+    private Long emptyUserId;
+
+    @BeforeEach
+    void setUp() {
+        User user = User.createUser("user@test.com", "pw", "19900101", "유저", "닉네임", "01012345678", 0);
+        User emptyUser = User.createUser("empty@test.com", "pw", "19900101", "유저", "닉네임2", "01012345679", 0);
+        em.persist(user);
+        em.persist(emptyUser);
+
+        for (int i = 0; i < 10; i++) {
+            Address address = Address.createAddress("local" + i, "extra" + i, i);
+            em.persist(address);
+            em.persist(UserAddressList.createUserAddressList(user, address, i == 0));
+        }
+        em.flush();
+        em.clear();
+
+        userId = user.getId();
+        emptyUserId = emptyUser.getId();
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void addressListForSearchIsOneStatement() {
+        List<AddressListForSearchResponse> addressList =
+                userAddressListRepository.findAddressListForSearchByUserId(userId);
+
+        assertEquals(10, addressList.size());
+        assertEquals(9, addressList.get(9).getLocalCode());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void emptyAddressListIsEmpty() {
+        assertTrue(userAddressListRepository.findAddressListForSearchByUserId(emptyUserId).isEmpty());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void ownedAddressIsFoundOnlyForOwner() {
+        Long addressId = userAddressListRepository.findAddressListForSearchByUserId(userId).get(3).getId();
+
+        UserAddressList owned = userAddressListRepository.findOwnedAddress(userId, addressId).orElseThrow();
+        assertEquals("local3", owned.getAddress().getLocalAddress());
+        assertTrue(userAddressListRepository.findOwnedAddress(emptyUserId, addressId).isEmpty());
+    }
+
+}
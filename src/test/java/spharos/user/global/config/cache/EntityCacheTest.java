@@ -0,0 +1,156 @@
+package spharos.user.global.config.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import spharos.user.address.domain.Address;
+import spharos.user.address.domain.UserAddressList;
+import spharos.user.users.domain.User;
+import spharos.user.users.infrastructure.UserEntityCacheEvictor;
+import spharos.user.users.infrastructure.UserRepository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 로컬 캐시만 사용하도록 두고 Hibernate 통계의 SQL 실행 수로 캐시 적중과 무효화를 확인
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({EntityCacheConfig.class, UserEntityCacheEvictor.class, EntityCacheTest.MeterRegistryConfig.class})
+@TestPropertySource(properties = {
+        "entity-cache.enabled=true",
+        "entity-cache.redis.enabled=false",
+        "entity-cache.put-block-window=0s"
+})
+class EntityCacheTest {
+
+    @MockBean
+    private StringRedisTemplate stringRedisTemplate;
+    @MockBean
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private UserEntityCacheEvictor userEntityCacheEvictor;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createQuery("delete from UserAddressList").executeUpdate();
+            entityManager.createQuery("delete from Address").executeUpdate();
+            entityManager.createQuery("delete from User").executeUpdate();
+        });
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void findByEmailIsServedFromCache() {
+        transactionTemplate.executeWithoutResult(status -> userRepository.save(user("cache@test.com", "닉네임")));
+        assertTrue(userRepository.findByEmail("cache@test.com").isPresent());
+
+        statistics.clear();
+        User user = userRepository.findByEmail("cache@test.com").orElseThrow();
+        assertEquals("닉네임", user.getNickname());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertTrue(meterRegistry.get("cache.gets").tags("cache", "entity.user", "result", "hit")
+                .functionCounter().count() > 0);
+    }
+
+    @Test
+    void entityChangesEvictCachedUser() {
+        transactionTemplate.executeWithoutResult(status -> userRepository.save(user("cache@test.com", "닉네임")));
+        userRepository.findByEmail("cache@test.com");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = userRepository.findByEmail("cache@test.com").orElseThrow();
+            user.modifyUser("20000101", "변경", "변경닉네임", "01099999999");
+            user.setPassword("changed");
+            user.setStatus(1);
+        });
+
+        User user = userRepository.findByEmail("cache@test.com").orElseThrow();
+        assertEquals("변경닉네임", user.getNickname());
+        assertEquals("changed", user.getPassword());
+        assertEquals(1, user.getStatus());
+    }
+
+    @Test
+    void defaultAddressSyncEvictsOnlyThatUser() {
+        User other = transactionTemplate.execute(status -> userRepository.save(user("other@test.com", "다른닉")));
+        User user = transactionTemplate.execute(status -> {
+            User saved = userRepository.save(user("cache@test.com", "닉네임"));
+            Address address = Address.createAddress("local", "extra", 1);
+            entityManager.persist(address);
+            entityManager.persist(UserAddressList.createUserAddressList(saved, address, true));
+            return saved;
+        });
+        userRepository.findByEmail("other@test.com");
+        userRepository.findByEmail("cache@test.com");
+
+        userRepository.syncDefaultAddress(user.getId());
+        userEntityCacheEvictor.evict(user.getId());
+
+        // 다른 유저의 캐시는 그대로 유지
+        statistics.clear();
+        userRepository.findByEmail("other@test.com");
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        assertEquals("local", userRepository.findByEmail("cache@test.com").orElseThrow()
+                .getDefaultAddress().getLocalAddress());
+        assertEquals(other.getId(), userRepository.findByEmail("other@test.com").orElseThrow().getId());
+    }
+
+    private User user(String email, String nickname) {
+        return User.createUser(email, "pw", "19900101", "유저", nickname, "01012345678", 0);
+    }
+
+    @TestConfiguration
+    static class MeterRegistryConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+    }
+
+}
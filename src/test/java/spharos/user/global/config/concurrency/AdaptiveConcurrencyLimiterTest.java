@@ -0,0 +1,57 @@
+package spharos.user.global.config.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final String ROUTE = "GET /api/v1/address";
+
+    @Test
+    void limitShrinksWhenLatencyRises() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(100, 10, 1000, 0.2, 1.5, 0.9, 0.5);
+        complete(limiter, 200, 10);
+        int before = limiter.getLimit();
+
+        // DB 가 느려져 지연시간이 10배로 늘어남
+        complete(limiter, 100, 100);
+
+        assertTrue(limiter.getLimit() < before / 2, "limit=" + limiter.getLimit() + ", before=" + before);
+        assertTrue(limiter.getLimit() >= 10);
+    }
+
+    @Test
+    void anonymousRequestsAreShedBeforeCriticalRequests() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 10, 10, 0.2, 1.5, 0.9, 0.5);
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limiter.tryAcquire(RequestPriority.ANONYMOUS));
+        }
+
+        assertFalse(limiter.tryAcquire(RequestPriority.ANONYMOUS));
+        for (int i = 0; i < 4; i++) {
+            assertTrue(limiter.tryAcquire(RequestPriority.AUTHENTICATED));
+        }
+        assertFalse(limiter.tryAcquire(RequestPriority.AUTHENTICATED));
+        assertTrue(limiter.tryAcquire(RequestPriority.CRITICAL));
+        assertFalse(limiter.tryAcquire(RequestPriority.CRITICAL));
+        assertEquals(10, limiter.getInFlight());
+    }
+
+    // 한도가 줄지 않도록 동시에 limit 만큼 처리 중인 상태에서 요청을 끝냄
+    private void complete(AdaptiveConcurrencyLimiter limiter, int requests, long latencyMillis) {
+        for (int i = 0; i < requests; i++) {
+            int inFlight = Math.max(1, limiter.getLimit() - 1);
+            for (int j = 0; j < inFlight; j++) {
+                limiter.tryAcquire(RequestPriority.CRITICAL);
+            }
+            limiter.release(ROUTE, TimeUnit.MILLISECONDS.toNanos(latencyMillis), true);
+            while (limiter.getInFlight() > 0) {
+                limiter.release(ROUTE, TimeUnit.MILLISECONDS.toNanos(latencyMillis), false);
+            }
+        }
+    }
+
+}
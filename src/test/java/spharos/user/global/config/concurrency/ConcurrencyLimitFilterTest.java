@@ -0,0 +1,87 @@
+package spharos.user.global.config.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitFilterTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // 한도를 넘으면 체인을 실행하지 않고 503 + Retry-After, 중복 확인 API 는 토큰을 붙여도 ANONYMOUS 로 거절
+    @Test
+    void requestsOverLimitAreShedWithRetryAfter() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 10, 10, 0.2, 1.5, 0.9, 0.5);
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limiter, new ObjectMapper(), "3", meterRegistry);
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire(RequestPriority.AUTHENTICATED);
+        }
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users/email/check");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer any");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, response, chain);
+
+        assertEquals(503, response.getStatus());
+        assertEquals("3", response.getHeader(HttpHeaders.RETRY_AFTER));
+        assertNull(chain.getRequest());
+        assertEquals(1.0, meterRegistry.get("web.concurrency.shed").tag("priority", "anonymous").counter().count());
+
+        // 같은 헤더로 다른 API 를 호출하면 AUTHENTICATED 로 통과
+        MockHttpServletRequest authenticated = new MockHttpServletRequest("GET", "/api/v1/users/address");
+        authenticated.addHeader(HttpHeaders.AUTHORIZATION, "Bearer any");
+        MockHttpServletResponse authenticatedResponse = new MockHttpServletResponse();
+        filter.doFilter(authenticated, authenticatedResponse, new MockFilterChain());
+        assertEquals(200, authenticatedResponse.getStatus());
+        assertEquals(5, limiter.getInFlight());
+    }
+
+    // 비동기 응답은 체인이 끝나도 반환하지 않고 응답이 완료될 때 반환
+    @Test
+    void asyncRequestIsReleasedOnComplete() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 10, 10, 0.2, 1.5, 0.9, 0.5);
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limiter, new ObjectMapper(), "3", meterRegistry);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users/mypage/bootstrap");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/users/mypage/bootstrap");
+            req.startAsync();
+        };
+        filter.doFilter(request, response, chain);
+
+        assertEquals(1, limiter.getInFlight());
+
+        request.getAsyncContext().complete();
+
+        assertEquals(0, limiter.getInFlight());
+        assertEquals(1, limiter.getRouteCount());
+    }
+
+    // 매핑되지 않은 경로는 지연시간을 기록하지 않음 (존재하지 않는 경로로 경로 목록을 채우지 못하게)
+    @Test
+    void unmatchedRequestsAreNotRecordedAsRoutes() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 10, 10, 0.2, 1.5, 0.9, 0.5);
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(limiter, new ObjectMapper(), "3", meterRegistry);
+
+        for (int i = 0; i < 300; i++) {
+            filter.doFilter(new MockHttpServletRequest("GET", "/wp-admin/" + i), new MockHttpServletResponse(),
+                    new MockFilterChain());
+        }
+
+        assertEquals(0, limiter.getInFlight());
+        assertEquals(0, limiter.getRouteCount());
+    }
+
+}
@@ -0,0 +1,167 @@
+package spharos.user.global.config.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import spharos.user.global.config.security.AuthUser;
+import spharos.user.users.domain.User;
+import spharos.user.users.infrastructure.UserRepository;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 두 개의 H2 인스턴스를 primary, 복제본으로 두고 복제 없이 각 DB 에 어떤 데이터가 보이는지로 라우팅을 확인
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({DataSourceConfig.class, ReadYourWritesTracker.class, ReplicaLagMonitor.class,
+        ReplicaRoutingDataSourceTest.MeterRegistryConfig.class})
+@TestPropertySource(properties = {
+        "datasource-routing.replica-urls=" + ReplicaRoutingDataSourceTest.REPLICA_URL,
+        "datasource-routing.lag-query=select seconds from replica_lag",
+        "datasource-routing.lag-check-interval-ms=3600000"
+})
+class ReplicaRoutingDataSourceTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:user-service-replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;"
+            + "NON_KEYWORDS=USER;DB_CLOSE_ON_EXIT=FALSE";
+
+    @MockBean
+    private StringRedisTemplate stringRedisTemplate;
+    @MockBean
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private JdbcTemplate replicaJdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource replica = new DriverManagerDataSource(REPLICA_URL, "sa", "");
+        Flyway.configure().dataSource(replica).load().migrate();
+        replicaJdbcTemplate = new JdbcTemplate(replica);
+        replicaJdbcTemplate.execute("create table if not exists replica_lag (seconds bigint)");
+        setReplicaLag(0);
+
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        readWrite.executeWithoutResult(status -> userRepository.deleteAll());
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplica() {
+        readWrite.executeWithoutResult(status -> userRepository.save(user("primary@test.com")));
+
+        // 복제되지 않았으므로 복제본에서는 보이지 않고 primary 에서는 보임
+        assertTrue(readOnly.execute(status -> userRepository.findByEmail("primary@test.com")).isEmpty());
+        assertTrue(readWrite.execute(status -> userRepository.findByEmail("primary@test.com")).isPresent());
+
+        assertNotNull(meterRegistry.find("hikaricp.connections").tag("pool", "replica-0").gauge());
+        assertEquals(0.0, meterRegistry.get("datasource.replica.lag").tag("pool", "replica-0").gauge().value());
+        assertTrue(meterRegistry.get("datasource.routing").tags("pool", "replica-0", "reason", "read-only")
+                .counter().count() > 0);
+    }
+
+    @Test
+    void laggingReplicaFallsBackToPrimary() {
+        readWrite.executeWithoutResult(status -> userRepository.save(user("primary@test.com")));
+
+        setReplicaLag(10);
+        assertTrue(readOnly.execute(status -> userRepository.findByEmail("primary@test.com")).isPresent());
+
+        // 지연이 허용 범위로 돌아오면 다시 복제본 사용
+        setReplicaLag(0);
+        assertTrue(readOnly.execute(status -> userRepository.findByEmail("primary@test.com")).isEmpty());
+    }
+
+    @Test
+    void readsAfterOwnWriteStayOnPrimary() {
+        authenticate(1L);
+        readWrite.executeWithoutResult(status -> userRepository.save(user("primary@test.com")));
+
+        // 쓰기를 커밋한 유저는 sticky-window 동안 primary 에서 조회
+        assertTrue(readOnly.execute(status -> userRepository.findByEmail("primary@test.com")).isPresent());
+
+        // 다른 유저는 그대로 복제본에서 조회
+        authenticate(2L);
+        assertTrue(readOnly.execute(status -> userRepository.findByEmail("primary@test.com")).isEmpty());
+    }
+
+    @Test
+    void rolledBackWriteDoesNotPinUser() {
+        readWrite.executeWithoutResult(status -> userRepository.save(user("primary@test.com")));
+
+        authenticate(1L);
+        readWrite.executeWithoutResult(status -> {
+            userRepository.findByEmail("primary@test.com");
+            status.setRollbackOnly();
+        });
+
+        assertTrue(readOnly.execute(status -> userRepository.findByEmail("primary@test.com")).isEmpty());
+    }
+
+    private void setReplicaLag(long seconds) {
+        replicaJdbcTemplate.update("delete from replica_lag");
+        replicaJdbcTemplate.update("insert into replica_lag (seconds) values (?)", seconds);
+        replicaLagMonitor.checkLag();
+    }
+
+    private void authenticate(Long userId) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new AuthUser(userId, "user" + userId + "@test.com", 0), null, List.of()));
+    }
+
+    private User user(String email) {
+        return User.createUser(email, "pw", "19900101", "유저", "닉네임", "01012345678", 0);
+    }
+
+    @TestConfiguration
+    static class MeterRegistryConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+    }
+
+}
@@ -0,0 +1,210 @@
+package spharos.user.global.config.shard;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import spharos.user.global.common.response.ResponseCode;
+import spharos.user.global.config.datasource.DataSourceConfig;
+import spharos.user.global.config.datasource.ReadYourWritesTracker;
+import spharos.user.global.config.datasource.ReplicaLagMonitor;
+import spharos.user.global.exception.CustomException;
+import spharos.user.users.domain.User;
+import spharos.user.users.dto.ReviewWriterDto;
+import spharos.user.users.infrastructure.UserRepository;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 테스트 DB 를 0번 샤드로, H2 인스턴스 두 개를 추가 샤드로 두고 각 샤드에 실제로 저장된 행으로 라우팅을 확인
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration(AopAutoConfiguration.class)
+@Import({DataSourceConfig.class, ReadYourWritesTracker.class, ReplicaLagMonitor.class, ShardConfig.class,
+        ShardRouter.class, ShardDirectory.class, UserShardMover.class, ShardRebalancer.class,
+        ShardRoutingAspect.class, ShardRoutingTest.MeterRegistryConfig.class})
+@TestPropertySource(properties = {
+        "sharding.enabled=true",
+        "sharding.shard-urls=" + ShardRoutingTest.SHARD_1_URL + "," + ShardRoutingTest.SHARD_2_URL,
+        "sharding.directory-cache.ttl=1m",
+        "sharding.fence-retention=0s",
+        "sharding.fence-purge-interval-ms=3600000",
+        "datasource-routing.lag-check-interval-ms=3600000"
+})
+class ShardRoutingTest {
+
+    static final String SHARD_1_URL = "jdbc:h2:mem:user-service-shard-1;MODE=MySQL;DATABASE_TO_LOWER=TRUE;"
+            + "NON_KEYWORDS=USER;DB_CLOSE_ON_EXIT=FALSE";
+    static final String SHARD_2_URL = "jdbc:h2:mem:user-service-shard-2;MODE=MySQL;DATABASE_TO_LOWER=TRUE;"
+            + "NON_KEYWORDS=USER;DB_CLOSE_ON_EXIT=FALSE";
+
+    @MockBean
+    private StringRedisTemplate stringRedisTemplate;
+    @MockBean
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ShardRouter shardRouter;
+    @Autowired
+    private ShardDirectory shardDirectory;
+    @Autowired
+    private ShardRebalancer shardRebalancer;
+    @Autowired
+    private ShardRoutingDataSource shardRoutingDataSource;
+
+    @AfterEach
+    void tearDown() {
+        for (ShardRoutingDataSource.Shard shard : shardRoutingDataSource.getShards()) {
+            JdbcTemplate jdbcTemplate = jdbcTemplate(shard.getIndex());
+            jdbcTemplate.update("delete from user_address_list");
+            jdbcTemplate.update("delete from address");
+            jdbcTemplate.update("delete from user");
+            jdbcTemplate.update("delete from user_shard");
+            jdbcTemplate.update("delete from user_shard_fence");
+        }
+    }
+
+    @Test
+    void usersAreStoredOnPlacementShardAndFoundByKey() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            users.add(userRepository.save(user(i)));
+        }
+
+        assertEquals(3, shardDirectory.countByShard().size());
+        assertEquals(30, new HashSet<>(users.stream().map(User::getId).toList()).size());
+
+        for (int i = 0; i < users.size(); i++) {
+            String email = users.get(i).getEmail();
+            int placement = shardRouter.placementFor(email);
+            for (int shard = 0; shard < shardRouter.getShardCount(); shard++) {
+                assertEquals(shard == placement ? 1 : 0, countUsers(shard, email));
+            }
+
+            assertEquals(email, userRepository.findByEmail(email).orElseThrow().getEmail());
+            assertEquals(email, userRepository.findByNickname("닉" + i).orElseThrow().getEmail());
+            assertEquals(email, userRepository.findByPhone(phone(i)).orElseThrow().getEmail());
+            assertTrue(userRepository.findById(users.get(i).getId()).isPresent());
+        }
+
+        // 디렉터리에 없는 유저는 쿼리 없이 빈 결과
+        assertTrue(userRepository.findByEmail("none@test.com").isEmpty());
+        assertFalse(userRepository.existsByEmail("none@test.com"));
+
+        // 여러 유저 조회는 모든 샤드 결과를 합침
+        List<ReviewWriterDto> writers = userRepository.findReviewWritersByEmailIn(
+                users.stream().map(User::getEmail).toList());
+        assertEquals(30, writers.size());
+    }
+
+    @Test
+    void rebalanceMovesUsersAndFencesSource() {
+        // 샤딩 도입 전 0번 샤드에 저장된 유저
+        List<String> emails = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            String email = "legacy" + i + "@test.com";
+            insertLegacyUser(1_000_000L + i, email, i);
+            emails.add(email);
+        }
+        // 다른 샤드에 같은 이메일로 이미 등록된 유저는 건너뛰고 충돌로 보고
+        shardDirectory.registerAll(List.of(new ShardDirectory.NewEntry(2_000_000L, "legacy0@test.com", "충돌",
+                phone(20), 1)));
+        ShardDirectory.BackfillResult backfill = shardDirectory.backfill();
+        assertEquals(19, backfill.registered());
+        assertEquals(1, backfill.conflicts().size());
+        assertEquals(1_000_000L, backfill.conflicts().get(0).userId());
+        assertEquals(2_000_000L, backfill.conflicts().get(0).directoryUserId());
+
+        shardDirectory.remove(List.of(2_000_000L));
+        assertEquals(1, shardDirectory.backfill().registered());
+        assertTrue(shardDirectory.backfill().conflicts().isEmpty());
+
+        List<String> misplaced = emails.stream().filter(email -> shardRouter.placementFor(email) != 0).toList();
+        assertFalse(misplaced.isEmpty());
+
+        // 이동 전에 디렉터리 캐시에 원본 샤드가 남은 유저
+        String moving = misplaced.get(0);
+        long movingId = 1_000_000L + emails.indexOf(moving);
+        int target = shardRouter.placementFor(moving);
+        assertTrue(userRepository.findById(movingId).isPresent());
+
+        assertEquals(misplaced.size(), shardRebalancer.rebalance(100));
+        assertEquals(0, shardDirectory.countMoving());
+
+        // 원본 샤드로 온 쓰기는 펜스로 거부되고, 캐시가 지워져 다시 시도하면 대상 샤드에 반영
+        CustomException fenced = assertThrows(CustomException.class,
+                () -> userRepository.updatePassword(movingId, "stale"));
+        assertEquals(ResponseCode.SERVER_BUSY, fenced.getResponseCode());
+        assertEquals("pw", jdbcTemplate(0).queryForObject(
+                "select password from user where id = ?", String.class, movingId));
+        userRepository.updatePassword(movingId, "changed");
+        assertEquals("changed", jdbcTemplate(target).queryForObject(
+                "select password from user where id = ?", String.class, movingId));
+
+        // 펜스 보관 기간이 지나면 원본 행 삭제
+        shardRebalancer.purgeFenced();
+        for (String email : emails) {
+            int placement = shardRouter.placementFor(email);
+            for (int shard = 0; shard < shardRouter.getShardCount(); shard++) {
+                assertEquals(shard == placement ? 1 : 0, countUsers(shard, email));
+            }
+            assertTrue(userRepository.findByEmail(email).isPresent());
+        }
+        assertEquals("changed", userRepository.findById(movingId).orElseThrow().getPassword());
+    }
+
+    private void insertLegacyUser(long id, String email, int i) {
+        jdbcTemplate(0).update("insert into user (id, email, password, birthday, username, nickname, phone, status) "
+                + "values (?, ?, 'pw', '19900101', '유저', ?, ?, 0)", id, email, "닉" + i, phone(i));
+    }
+
+    private int countUsers(int shard, String email) {
+        return jdbcTemplate(shard).queryForObject("select count(*) from user where email = ?", Integer.class, email);
+    }
+
+    private JdbcTemplate jdbcTemplate(int shard) {
+        return new JdbcTemplate(shardRoutingDataSource.getShard(shard).getPrimary());
+    }
+
+    private User user(int i) {
+        return User.createUser("user" + i + "@test.com", "pw", "19900101", "유저", "닉" + i, phone(i), 0);
+    }
+
+    private String phone(int i) {
+        return String.format("010%08d", i);
+    }
+
+    @TestConfiguration
+    static class MeterRegistryConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+    }
+
+}
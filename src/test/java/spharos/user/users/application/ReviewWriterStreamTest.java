@@ -0,0 +1,66 @@
+package spharos.user.users.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import spharos.user.global.common.response.ResponseCode;
+import spharos.user.global.exception.CustomException;
+import spharos.user.users.dto.ReviewWriterDto;
+import spharos.user.users.infrastructure.UserRepository;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReviewWriterStreamTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final ReviewServiceImpl reviewService = new ReviewServiceImpl(userRepository,
+            new ReviewWriterCache(100, Duration.ofMinutes(1), Duration.ofSeconds(5), new SimpleMeterRegistry()),
+            objectMapper);
+
+    @Test
+    void malformedBodyIsRejectedBeforeWriting() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        CustomException e = assertThrows(CustomException.class, () -> stream("[\"a@test.com\", {", out));
+
+        assertEquals(ResponseCode.INVALID_REQUEST_BODY, e.getResponseCode());
+        assertEquals(0, out.size());
+    }
+
+    @Test
+    void errorAfterFirstChunkEndsStreamWithErrorRecord() throws Exception {
+        when(userRepository.findReviewWritersByEmailIn(anyList())).thenAnswer(invocation ->
+                invocation.<List<String>>getArgument(0).stream()
+                        .map(email -> new ReviewWriterDto(1L, email, null, "닉네임"))
+                        .toList());
+        String emails = IntStream.range(0, 1500)
+                .mapToObj(i -> "\"user" + i + "@test.com\"")
+                .collect(Collectors.joining(","));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        stream("[" + emails + ", 1]", out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(1001, lines.length);
+        assertEquals("user999@test.com", objectMapper.readTree(lines[999]).get("email").asText());
+        assertFalse(objectMapper.readTree(lines[1000]).get("success").asBoolean());
+        assertEquals(ResponseCode.INVALID_REQUEST_BODY.getCode(), objectMapper.readTree(lines[1000]).get("code").asInt());
+    }
+
+    private void stream(String body, ByteArrayOutputStream out) throws Exception {
+        reviewService.streamReviewWriter(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), out);
+    }
+
+}
@@ -0,0 +1,223 @@
+package spharos.user.users.application;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import spharos.user.global.config.security.PasswordHashingEngine;
+import spharos.user.global.config.shard.ShardRouter;
+import spharos.user.users.domain.User;
+import spharos.user.users.dto.UserImportResultDto;
+import spharos.user.users.infrastructure.UserImportReader;
+import spharos.user.users.infrastructure.UserRepository;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+
+// 청크 크기를 작게 두고 CSV 파싱, 거절 사유, 중복 제거, 체크포인트 재시작을 확인
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({UserImportServiceImpl.class, ShardRouter.class, PasswordHashingEngine.class,
+        UserImportServiceTest.MeterRegistryConfig.class})
+@TestPropertySource(properties = {
+        "user-import.chunk-size=3",
+        "password-hashing.bcrypt-strength=4"
+})
+class UserImportServiceTest {
+
+    private static final String HEADER =
+            "email,password,passwordHash,username,nickname,birthday,phone,localAddress,extraAddress,localCode";
+
+    @MockBean
+    private StringRedisTemplate stringRedisTemplate;
+    @MockBean
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+    @MockBean
+    private UserKeyFilter userKeyFilter;
+    @SpyBean
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserImportService userImportService;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    private Path directory;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createQuery("delete from UserAddressList").executeUpdate();
+            entityManager.createQuery("delete from Address").executeUpdate();
+            entityManager.createQuery("delete from User").executeUpdate();
+        });
+    }
+
+    @Test
+    void csvRowsAreParsedAndRejectedWithReason() throws IOException {
+        saveUser("existing@test.com", "기존닉");
+        Path file = write("users.csv",
+                HEADER,
+                row("a@test.com", "닉A").replace("유저", "\"홍, \"\"길동\"\"\""),
+                "bad-email,pw,,유저,닉B,19900101,01012345678,서울,1호,100",
+                "c@test.com,pw,,유저,닉C",
+                "",
+                row("a@test.com", "닉D"),
+                row("existing@test.com", "닉E"),
+                row("f@test.com", "기존닉"),
+                row("g@test.com", "닉G"));
+
+        UserImportResultDto result = userImportService.importUsers(file, UserImportReader.Format.CSV);
+
+        assertEquals(7, result.getProcessed());
+        assertEquals(2, result.getImported());
+        assertEquals(5, result.getRejected());
+        assertEquals("홍, \"길동\"", userRepository.findByEmail("a@test.com").orElseThrow().getName());
+        assertTrue(userRepository.findByEmail("g@test.com").isPresent());
+
+        // 줄 번호는 헤더와 빈 줄을 포함한 파일 기준
+        List<String> rejects = Files.readAllLines(directory.resolve("users.csv.rejects"));
+        assertEquals(5, rejects.size());
+        assertTrue(rejects.get(0).contains("\"line\":3") && rejects.get(0).contains("INVALID_EMAIL"));
+        assertTrue(rejects.get(1).contains("\"line\":4") && rejects.get(1).contains("PARSE_ERROR"));
+        assertTrue(rejects.get(2).contains("\"line\":6") && rejects.get(2).contains("DUPLICATE_EMAIL\""));
+        assertTrue(rejects.get(3).contains("\"line\":7") && rejects.get(3).contains("DUPLICATE_EMAIL\""));
+        assertTrue(rejects.get(4).contains("\"line\":8") && rejects.get(4).contains("DUPLICATE_NICKNAME\""));
+    }
+
+    @Test
+    void duplicatesWithinChunkAreRejectedInFile() throws IOException {
+        Path file = write("users.csv",
+                HEADER,
+                row("a@test.com", "닉A"),
+                row("A@test.com", "닉B"),
+                row("c@test.com", "닉A"));
+
+        UserImportResultDto result = userImportService.importUsers(file, UserImportReader.Format.CSV);
+
+        assertEquals(1, result.getImported());
+        List<String> rejects = Files.readAllLines(directory.resolve("users.csv.rejects"));
+        assertTrue(rejects.get(0).contains("DUPLICATE_EMAIL_IN_FILE"));
+        assertTrue(rejects.get(1).contains("DUPLICATE_NICKNAME_IN_FILE"));
+    }
+
+    // 커밋 후 체크포인트 반영 전에 중단된 청크는 다시 처리해도 중복으로 거절하지 않음
+    @Test
+    void resumeSkipsCheckpointedRowsAndDoesNotRejectInterruptedChunk() throws IOException {
+        Path file = write("users.csv",
+                HEADER,
+                row("a@test.com", "닉A"),
+                row("b@test.com", "닉B"),
+                row("c@test.com", "닉C"),
+                row("d@test.com", "닉D"),
+                row("e@test.com", "닉E"));
+        userImportService.importUsers(file, UserImportReader.Format.CSV);
+
+        // 두 번째 청크(d, e)를 저장한 뒤 결과를 반영하기 전에 중단된 상태로 되돌림
+        Files.writeString(directory.resolve("users.csv.checkpoint"),
+                "processed=3\nimported=3\nrejected=0\npending=2\n");
+        Files.delete(directory.resolve("users.csv.rejects"));
+
+        UserImportResultDto result = userImportService.importUsers(file, UserImportReader.Format.CSV);
+
+        assertEquals(5, result.getProcessed());
+        assertEquals(5, result.getImported());
+        assertEquals(0, result.getRejected());
+        assertTrue(Files.readAllLines(directory.resolve("users.csv.rejects")).isEmpty());
+        assertEquals(5L, entityManager.createQuery("select count(u) from User u", Long.class).getSingleResult());
+
+        // 모두 처리된 파일은 다시 실행해도 건너뜀
+        result = userImportService.importUsers(file, UserImportReader.Format.CSV);
+        assertEquals(5, result.getProcessed());
+        assertTrue(Files.readAllLines(directory.resolve("users.csv.rejects")).isEmpty());
+    }
+
+    // 중복 확인 이후에 같은 이메일로 가입한 경우 해당 레코드만 거절하고 나머지는 저장
+    @Test
+    void uniqueViolationRejectsOnlyConflictingRow() throws IOException {
+        saveUser("b@test.com", "가입닉");
+        doReturn(List.of()).when(userRepository).findKeysByEmailInOrNicknameIn(any(), any());
+        Path file = write("users.csv",
+                HEADER,
+                row("a@test.com", "닉A"),
+                row("b@test.com", "닉B"),
+                row("c@test.com", "닉C"));
+
+        UserImportResultDto result = userImportService.importUsers(file, UserImportReader.Format.CSV);
+
+        assertEquals(2, result.getImported());
+        assertEquals(1, result.getRejected());
+        assertTrue(userRepository.findByEmail("a@test.com").isPresent());
+        assertTrue(userRepository.findByEmail("c@test.com").isPresent());
+        assertEquals("가입닉", userRepository.findByEmail("b@test.com").orElseThrow().getNickname());
+        List<String> rejects = Files.readAllLines(directory.resolve("users.csv.rejects"));
+        assertTrue(rejects.get(0).contains("\"line\":3") && rejects.get(0).contains("DUPLICATE_EMAIL_OR_NICKNAME"));
+    }
+
+    private String row(String email, String nickname) {
+        return email + ",pw,,유저," + nickname + ",19900101,01012345678,서울,1호,100";
+    }
+
+    private Path write(String name, String... lines) throws IOException {
+        Path file = directory.resolve(name);
+        Files.write(file, List.of(lines), StandardCharsets.UTF_8);
+        return file;
+    }
+
+    private void saveUser(String email, String nickname) {
+        transactionTemplate.executeWithoutResult(status -> userRepository.save(
+                User.createUser(email, "pw", "19900101", "유저", nickname, "01012345678", 0)));
+    }
+
+    @TestConfiguration
+    static class MeterRegistryConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+    }
+
+}
@@ -0,0 +1,54 @@
+package spharos.user.users.infrastructure;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.SerializationException;
+import spharos.user.users.domain.RefreshTokenState;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RefreshTokenStateSerializerTest {
+
+    private final RefreshTokenStateSerializer serializer = new RefreshTokenStateSerializer();
+
+    @Test
+    void roundTrip() {
+        UUID familyId = UUID.randomUUID();
+        byte[] digest = RefreshTokenRepository.digest("refresh-token");
+        RefreshTokenState state = new RefreshTokenState(digest, familyId, 1_700_000_000_000L, "기기-1");
+
+        RefreshTokenState restored = serializer.deserialize(serializer.serialize(state));
+
+        assertArrayEquals(digest, restored.getTokenDigest());
+        assertEquals(familyId, restored.getFamilyId());
+        assertEquals(1_700_000_000_000L, restored.getExpiresAt());
+        assertEquals("기기-1", restored.getDeviceId());
+    }
+
+    // 직렬화된 값 크기 : 토큰 길이와 무관하게 고정 58바이트 + 기기 id
+    @Test
+    void serializedSizeDoesNotDependOnTokenLength() {
+        String deviceId = UUID.randomUUID().toString();
+        String longToken = "x".repeat(2048);
+
+        int shortTokenSize = serializer.serialize(new RefreshTokenState(RefreshTokenRepository.digest("token"),
+                UUID.randomUUID(), System.currentTimeMillis(), deviceId)).length;
+        int longTokenSize = serializer.serialize(new RefreshTokenState(RefreshTokenRepository.digest(longToken),
+                UUID.randomUUID(), System.currentTimeMillis(), deviceId)).length;
+
+        assertEquals(58, RefreshTokenStateSerializer.FIXED_LENGTH);
+        assertEquals(RefreshTokenStateSerializer.FIXED_LENGTH + deviceId.length(), shortTokenSize);
+        assertEquals(shortTokenSize, longTokenSize);
+    }
+
+    @Test
+    void rejectsUnknownVersion() {
+        byte[] bytes = new byte[RefreshTokenStateSerializer.FIXED_LENGTH];
+        bytes[0] = 9;
+
+        assertThrows(SerializationException.class,
+                () -> serializer.deserialize(bytes));
+    }
+
+}
@@ -0,0 +1,99 @@
+package spharos.user.users.infrastructure;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import spharos.user.address.domain.Address;
+import spharos.user.address.domain.UserAddressList;
+import spharos.user.users.domain.DefaultAddress;
+import spharos.user.users.domain.User;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class UserRepositoryDefaultAddressTest {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EntityManager em;
+
+    private Long userId;
+    private Long emptyUserId;
+    private Address defaultAddress;
+
+    @BeforeEach
+    void setUp() {
+        User user = User.createUser("user@test.com", "pw", "19900101", "유저", "닉네임", "01012345678", 0);
+        User emptyUser = User.createUser("empty@test.com", "pw", "19900101", "유저", "닉네임2", "01012345679", 0);
+        em.persist(user);
+        em.persist(emptyUser);
+
+        Address address = Address.createAddress("local", "extra", 1);
+        defaultAddress = Address.createAddress("default-local", "default-extra", 2);
+        em.persist(address);
+        em.persist(defaultAddress);
+        em.persist(UserAddressList.createUserAddressList(user, address, false));
+        em.persist(UserAddressList.createUserAddressList(user, defaultAddress, true));
+        em.flush();
+        em.clear();
+
+        userId = user.getId();
+        emptyUserId = emptyUser.getId();
+    }
+
+    @Test
+    void syncCopiesDefaultAddress() {
+        assertEquals(List.of(userId), findDriftIds());
+
+        assertEquals(1, userRepository.syncDefaultAddress(userId));
+
+        DefaultAddress snapshot = userRepository.findDefaultAddressById(userId).orElseThrow();
+        assertEquals(defaultAddress.getId(), snapshot.getAddressId());
+        assertEquals("default-local", snapshot.getLocalAddress());
+        assertEquals("default-extra", snapshot.getExtraAddress());
+        assertEquals(2, snapshot.getLocalCode());
+        assertTrue(findDriftIds().isEmpty());
+        assertTrue(userRepository.findDefaultAddressById(emptyUserId).isEmpty());
+    }
+
+    @Test
+    void modifiedDefaultAddressIsDrift() {
+        userRepository.syncDefaultAddress(userId);
+
+        em.find(Address.class, defaultAddress.getId()).update("changed-local", "default-extra", 2);
+        em.flush();
+
+        assertEquals(List.of(userId), findDriftIds());
+        userRepository.syncDefaultAddress(userId);
+        assertEquals("changed-local", userRepository.findDefaultAddressById(userId).orElseThrow().getLocalAddress());
+    }
+
+    // 주소 id 만 맞고 나머지 스냅샷 컬럼이 비어 있어도 다시 맞춤 대상
+    @Test
+    void partiallyEmptySnapshotIsDrift() {
+        userRepository.syncDefaultAddress(userId);
+
+        em.createNativeQuery("update user set default_extra_address = null, default_local_code = null where id = :id")
+                .setParameter("id", userId)
+                .executeUpdate();
+
+        assertEquals(List.of(userId), findDriftIds());
+        userRepository.syncDefaultAddress(userId);
+        assertTrue(findDriftIds().isEmpty());
+    }
+
+    private List<Long> findDriftIds() {
+        return userRepository.findDefaultAddressDriftIds(0L, PageRequest.of(0, 100));
+    }
+
+}